@@ -0,0 +1,87 @@
+package classify.benchmark;
+
+import classify.data.DataReader;
+import classify.data.DataWriter;
+import classify.student.IndexedStudentList;
+import classify.student.Student;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+//@@author alalal47
+/**
+ * Measures loading and saving the student data file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class DataFileBenchmark {
+    private static final String DATA_FILE = "Student_information.txt";
+
+    @Param({"1000", "100000", "1000000"})
+    public int studentCount;
+
+    @Param({"1", "5"})
+    public int subjectsPerStudent;
+
+    @Param({"20"})
+    public int subjectPoolSize;
+
+    private ArrayList<Student> students;
+    private Path folder;
+    private String filePath;
+
+    /**
+     * Generates the students and writes them to a data file in a new temporary folder.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        QuietConsole.silence();
+        students = new IndexedStudentList();
+        StudentDataGenerator.addStudents(students, studentCount, subjectsPerStudent, subjectPoolSize, 0);
+        folder = Files.createTempDirectory("classify-benchmark");
+        filePath = folder.resolve(DATA_FILE).toString();
+        DataWriter.writeStudentInfoFile(students, folder.toString(), filePath);
+    }
+
+    /**
+     * Deletes the temporary folder.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(folder.resolve(DATA_FILE));
+        Files.deleteIfExists(folder);
+        QuietConsole.restore();
+    }
+
+    @Benchmark
+    public ArrayList<Student> load() throws IOException {
+        ArrayList<Student> list = new IndexedStudentList();
+        DataReader.initialiseData(list, filePath);
+        return list;
+    }
+
+    @Benchmark
+    public void save() {
+        DataWriter.writeStudentInfoFile(students, folder.toString(), filePath);
+    }
+}
@@ -0,0 +1,95 @@
+package classify.benchmark;
+
+import classify.student.IndexedStudentList;
+import classify.student.Student;
+import classify.textfilecode.TextFileParser;
+import classify.user.InputSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+//@@author alalal47
+/**
+ * Measures the process command reading an input file into a student list.
+ * Half of the rows in the file are students already in the list, who only gain the new subject,
+ * and the other half are new students.
+ * The process command only reads from data/inputFolder, so the input file is written there,
+ * relative to the folder the benchmarks are run from.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ImportBenchmark {
+    private static final Path INPUT_FOLDER = Paths.get("data", "inputFolder");
+    private static final String INPUT_FILE = "benchmark_import";
+    private static final String IMPORTED_SUBJECT = "Imported";
+
+    @Param({"1000", "10000", "100000"})
+    public int rowCount;
+
+    @Param({"3"})
+    public int subjectsPerStudent;
+
+    private ArrayList<Student> existingStudents;
+    private ArrayList<Student> students;
+
+    /**
+     * Generates the students already in the list and writes the input file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        QuietConsole.silence();
+        existingStudents = new ArrayList<>();
+        StudentDataGenerator.addStudents(existingStudents, rowCount / 2, subjectsPerStudent,
+                subjectsPerStudent * 4, 0);
+        Files.createDirectories(INPUT_FOLDER);
+        Files.write(INPUT_FOLDER.resolve(INPUT_FILE + ".txt"),
+                StudentDataGenerator.createImportLines(rowCount, IMPORTED_SUBJECT, 0), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts every import from a list holding only the existing students, without the imported subject.
+     */
+    @Setup(Level.Invocation)
+    public void resetList() {
+        for (Student student : existingStudents) {
+            student.getAttributes().deleteSubject(IMPORTED_SUBJECT);
+        }
+        students = new IndexedStudentList();
+        students.addAll(existingStudents);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(INPUT_FOLDER.resolve(INPUT_FILE + ".txt"));
+        QuietConsole.restore();
+    }
+
+    @Benchmark
+    public ArrayList<Student> process() {
+        TextFileParser.parseUserSelection(INPUT_FOLDER.toFile(), new InputSource(INPUT_FILE + "\n"), students);
+        return students;
+    }
+}
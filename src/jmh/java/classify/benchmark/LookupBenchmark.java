@@ -0,0 +1,104 @@
+package classify.benchmark;
+
+import classify.student.IndexedStudentList;
+import classify.student.Student;
+import classify.student.StudentList;
+import classify.user.InputParsing;
+import classify.user.NameNumberMatchException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//@@author alalal47
+/**
+ * Measures finding a student by name, and checking whether a name and phone number pair is taken,
+ * for students spread over the whole list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class LookupBenchmark {
+    private static final int TARGETS = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int studentCount;
+
+    @Param({"3"})
+    public int subjectsPerStudent;
+
+    private ArrayList<Student> students;
+    private final String[] targetNames = new String[TARGETS];
+    private final int[] targetPhoneNumbers = new int[TARGETS];
+    private int next;
+
+    /**
+     * Generates the students and picks the students to look up.
+     */
+    @Setup
+    public void setUp() {
+        QuietConsole.silence();
+        students = new IndexedStudentList();
+        StudentDataGenerator.addStudents(students, studentCount, subjectsPerStudent, subjectsPerStudent * 4, 0);
+
+        Random random = new Random(0);
+        for (int i = 0; i < TARGETS; i++) {
+            int target = random.nextInt(studentCount);
+            targetNames[i] = StudentDataGenerator.getName(target).toLowerCase();
+            targetPhoneNumbers[i] = StudentDataGenerator.getPhoneNumber(target);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuietConsole.restore();
+    }
+
+    private int nextTarget() {
+        next = (next + 1) % TARGETS;
+        return next;
+    }
+
+    @Benchmark
+    public Student findStudentByName() {
+        return InputParsing.findStudentByName(students, targetNames[nextTarget()], null);
+    }
+
+    @Benchmark
+    public boolean checkNameNumberPairTaken() {
+        int target = nextTarget();
+        try {
+            StudentList.checkNameNumberPair(students, targetNames[target], targetPhoneNumbers[target]);
+            return false;
+        } catch (NameNumberMatchException e) {
+            return true;
+        }
+    }
+
+    @Benchmark
+    public boolean checkNameNumberPairFree() {
+        int target = nextTarget();
+        try {
+            StudentList.checkNameNumberPair(students, targetNames[target], targetPhoneNumbers[target] + 1);
+            return false;
+        } catch (NameNumberMatchException e) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package classify.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.logging.LogManager;
+
+//@@author alalal47
+/**
+ * Discards console output and log messages while a benchmark runs, so that printing the results of a
+ * command is not what gets measured, and the benchmark output stays readable.
+ */
+final class QuietConsole {
+    private static PrintStream originalOut;
+
+    private QuietConsole() {
+    }
+
+    static void silence() {
+        if (originalOut == null) {
+            originalOut = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+        LogManager.getLogManager().reset();
+    }
+
+    static void restore() {
+        if (originalOut != null) {
+            System.setOut(originalOut);
+            originalOut = null;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package classify.benchmark;
+
+import classify.student.IndexedStudentList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+//@@author alalal47
+/**
+ * Measures collecting the total classes attended by every student, reading the running total kept by each
+ * student compared with adding up the subjects in the columnar copy of the list.
+ * Run with -prof gc to see that the columnar scan allocates nothing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ReportScanBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int studentCount;
+
+    @Param({"3"})
+    public int subjectsPerStudent;
+
+    private IndexedStudentList students;
+    private StudentColumns columns;
+    private int[] totals;
+
+    /**
+     * Generates the students and builds their columnar copy, checking that both ways of reading the totals
+     * agree before anything is measured.
+     */
+    @Setup
+    public void setUp() {
+        QuietConsole.silence();
+        students = new IndexedStudentList();
+        StudentDataGenerator.addStudents(students, studentCount, subjectsPerStudent, subjectsPerStudent * 4, 0);
+        columns = StudentColumns.of(students);
+        totals = new int[studentCount];
+        columns.getTotalClassesAttended(totals);
+        for (int i = 0; i < studentCount; i++) {
+            if (totals[i] != students.get(i).getTotalClassesAttended()) {
+                throw new IllegalStateException("Columns disagree with the student in row " + i);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuietConsole.restore();
+    }
+
+    @Benchmark
+    public int[] totalClassesFromStudents() {
+        for (int i = 0; i < studentCount; i++) {
+            totals[i] = students.get(i).getTotalClassesAttended();
+        }
+        return totals;
+    }
+
+    @Benchmark
+    public int[] totalClassesFromColumns() {
+        columns.getTotalClassesAttended(totals);
+        return totals;
+    }
+
+    @Benchmark
+    public StudentColumns buildColumns() {
+        return StudentColumns.of(students);
+    }
+}
@@ -0,0 +1,84 @@
+package classify.benchmark;
+
+import classify.commands.StudentSorter;
+import classify.student.IndexedStudentList;
+import classify.student.Student;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//@@author alalal47
+/**
+ * Measures the sort command for each of its three modes, starting from the same shuffled list every time.
+ * Shuffling the list drops its cached sorted views, so every invocation by name sorts from scratch, while
+ * the other modes read the indexes, which are rebuilt with the list.
+ * The sorted list is printed to a stream which discards it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class SortBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    public int studentCount;
+
+    @Param({"3"})
+    public int subjectsPerStudent;
+
+    @Param({StudentSorter.NAME, StudentSorter.TOTAL_CLASSES, StudentSorter.PAYMENT_DATE})
+    public String mode;
+
+    private IndexedStudentList students;
+    private List<Student> shuffledOrder;
+
+    /**
+     * Generates the students and a shuffled order to start every sort from.
+     */
+    @Setup
+    public void setUp() {
+        QuietConsole.silence();
+        students = new IndexedStudentList();
+        StudentDataGenerator.addStudents(students, studentCount, subjectsPerStudent, subjectsPerStudent * 4, 0);
+        shuffledOrder = new ArrayList<>(students);
+        Collections.shuffle(shuffledOrder, new Random(0));
+    }
+
+    /**
+     * Puts the students back in the shuffled order, so that no sort starts from an already sorted list.
+     */
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        students.clear();
+        students.addAll(shuffledOrder);
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuietConsole.restore();
+    }
+
+    @Benchmark
+    public List<Student> sort() {
+        StudentSorter.sortByChoice(students, mode, null);
+        return students;
+    }
+}
@@ -0,0 +1,88 @@
+package classify.benchmark;
+
+import classify.student.Student;
+import classify.student.SubjectGrade;
+
+import java.util.List;
+
+//@@author alalal47
+/**
+ * Read-only copy of the classes attended by the students in a list, stored in arrays of primitives,
+ * measured by ReportScanBenchmark against reading the running total kept by each student.
+ * The subjects of every student are stored back to back, and the subjects of the student in a row are
+ * those between subjectOffsets[row] and subjectOffsets[row + 1].
+ * The copy is not updated when the students change, so it should be built again with of after any change.
+ */
+public final class StudentColumns {
+    private final int[] subjectOffsets;
+    private final int[] classesAttended;
+
+    private StudentColumns(int studentCount, int subjectCount) {
+        subjectOffsets = new int[studentCount + 1];
+        classesAttended = new int[subjectCount];
+    }
+
+    /**
+     * Copies the classes attended for every subject of every student in the list, in list order.
+     *
+     * @param studentList Students to copy
+     * @return Columns holding the classes attended by the students
+     * @throws IllegalArgumentException Thrown when the students take more subjects in total than an array can hold
+     */
+    public static StudentColumns of(List<Student> studentList) {
+        long subjectCount = 0;
+        for (Student student : studentList) {
+            subjectCount += student.getAttributes().getSubjectGrades().size();
+        }
+        if (subjectCount > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many subjects to store in columns: " + subjectCount);
+        }
+
+        StudentColumns columns = new StudentColumns(studentList.size(), (int) subjectCount);
+        int row = 0;
+        int offset = 0;
+        for (Student student : studentList) {
+            columns.subjectOffsets[row] = offset;
+            for (SubjectGrade subjectGrade : student.getAttributes().getSubjectGrades()) {
+                columns.classesAttended[offset] = subjectGrade.getClassesAttended();
+                offset++;
+            }
+            row++;
+        }
+        columns.subjectOffsets[row] = offset;
+        return columns;
+    }
+
+    public int size() {
+        return subjectOffsets.length - 1;
+    }
+
+    /**
+     * Adds up the classes attended for every subject the student in the row takes, ignoring subjects without
+     * a valid number of classes, in the same way as Student.getTotalClassesAttended.
+     *
+     * @param row Row of the student
+     * @return Total classes attended by the student
+     */
+    public int getTotalClassesAttended(int row) {
+        int totalClasses = 0;
+        for (int i = subjectOffsets[row]; i < subjectOffsets[row + 1]; i++) {
+            if (classesAttended[i] >= 0) {
+                totalClasses += classesAttended[i];
+            }
+        }
+        return totalClasses;
+    }
+
+    /**
+     * Writes the total classes attended by every student into the array, without allocating.
+     *
+     * @param totals Array with at least one element for each student
+     */
+    public void getTotalClassesAttended(int[] totals) {
+        assert totals.length >= size() : "There should be a total for every student";
+        for (int row = 0; row < size(); row++) {
+            totals[row] = getTotalClassesAttended(row);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package classify.benchmark;
+
+import classify.data.DataWriter;
+import classify.student.Student;
+import classify.student.StudentAttributes;
+import classify.student.SubjectGrade;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+//@@author alalal47
+/**
+ * Generates synthetic students for the benchmarks, from a thousand to a million or more.
+ * Every student has a unique name, a valid phone number, a payment date within the two years before
+ * BASE_DATE and the requested number of different subjects, picked from a pool of subject names.
+ * The same arguments and seed always give the same students, so runs can be compared.
+ * Can also be run on its own to write a data file or an input file for the process command.
+ */
+public final class StudentDataGenerator {
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+    private static final int PAYMENT_DAYS = 730;
+    private static final int FIRST_PHONE_NUMBER = 80000000;
+    private static final int PHONE_NUMBERS = 20000000;
+    private static final int MAX_CLASSES = 50;
+    private static final int MAX_GRADE = 100;
+    private static final int LETTERS = 26;
+    private static final String USAGE = "Usage: StudentDataGenerator data <students> <subjects per student> "
+            + "<subject pool size> <output file>\n"
+            + "       StudentDataGenerator import <rows> <subject> <output file>";
+
+    private StudentDataGenerator() {
+    }
+
+    /**
+     * Returns the name of the student with the given number, made only of letters so it is a valid name.
+     *
+     * @param number Number of the student, starting from 0
+     * @return Name which is different for every number
+     */
+    public static String getName(int number) {
+        StringBuilder letters = new StringBuilder();
+        int remaining = number;
+        do {
+            letters.append((char) ('a' + remaining % LETTERS));
+            remaining /= LETTERS;
+        } while (remaining > 0);
+        letters.setCharAt(0, Character.toUpperCase(letters.charAt(0)));
+        return "Student " + letters;
+    }
+
+    /**
+     * Returns the phone number of the student with the given number.
+     *
+     * @param number Number of the student, starting from 0
+     * @return A valid Singapore phone number
+     */
+    public static int getPhoneNumber(int number) {
+        return FIRST_PHONE_NUMBER + number % PHONE_NUMBERS;
+    }
+
+    /**
+     * Returns the name of the subject with the given number.
+     *
+     * @param number Number of the subject, starting from 0
+     * @return Subject name without spaces, as the process command expects
+     */
+    public static String getSubject(int number) {
+        return "Subject" + number;
+    }
+
+    /**
+     * Adds the requested number of synthetic students to the list.
+     *
+     * @param list               List to add the students to
+     * @param studentCount       Number of students to add
+     * @param subjectsPerStudent Number of subjects each student takes
+     * @param subjectPoolSize    Number of different subjects to pick from, at least subjectsPerStudent
+     * @param seed               Seed for the random grades, classes, dates and subjects
+     */
+    public static void addStudents(ArrayList<Student> list, int studentCount, int subjectsPerStudent,
+                                   int subjectPoolSize, long seed) {
+        assert subjectsPerStudent <= subjectPoolSize : "Students cannot take more subjects than there are";
+        Random random = new Random(seed);
+        list.ensureCapacity(list.size() + studentCount);
+        for (int i = 0; i < studentCount; i++) {
+            list.add(createStudent(i, subjectsPerStudent, subjectPoolSize, random));
+        }
+    }
+
+    private static Student createStudent(int number, int subjectsPerStudent, int subjectPoolSize, Random random) {
+        Student student = new Student(getName(number));
+        StudentAttributes attributes = student.getAttributes();
+        attributes.setGender(random.nextBoolean() ? "M" : "F");
+        attributes.setPhoneNumber(getPhoneNumber(number));
+        attributes.setLastPaymentDate(BASE_DATE.minusDays(random.nextInt(PAYMENT_DAYS)));
+        attributes.setRemarks("NA");
+
+        int firstSubject = random.nextInt(subjectPoolSize);
+        for (int i = 0; i < subjectsPerStudent; i++) {
+            String subject = getSubject((firstSubject + i) % subjectPoolSize);
+            attributes.addSubjectGrade(new SubjectGrade(subject, random.nextInt(MAX_GRADE + 1),
+                    random.nextInt(MAX_CLASSES + 1)));
+        }
+        return student;
+    }
+
+    /**
+     * Returns the lines of an input file for the process command, with one row for each of the first
+     * rowCount students.
+     *
+     * @param rowCount Number of students in the file
+     * @param subject  Subject taken by every student in the file
+     * @param seed     Seed for the random grades and classes attended
+     * @return Lines of the input file
+     */
+    public static List<String> createImportLines(int rowCount, String subject, long seed) {
+        Random random = new Random(seed);
+        List<String> lines = new ArrayList<>(rowCount + 2);
+        lines.add("Subject: " + subject);
+        lines.add("Classes Attended: " + random.nextInt(MAX_CLASSES + 1));
+        for (int i = 0; i < rowCount; i++) {
+            lines.add(getName(i) + " ~~ " + getPhoneNumber(i) + " ~~ " + random.nextInt(MAX_GRADE + 1) + ".0");
+        }
+        return lines;
+    }
+
+    /**
+     * Writes a synthetic data file or process command input file.
+     *
+     * @param args Arguments as shown in USAGE
+     * @throws IOException Thrown when the file could not be written
+     */
+    public static void main(String[] args) throws IOException {
+        List<String> lines;
+        Path outputFile;
+        if (args.length == 5 && args[0].equals("data")) {
+            ArrayList<Student> students = new ArrayList<>();
+            addStudents(students, Integer.parseInt(args[1]), Integer.parseInt(args[2]), Integer.parseInt(args[3]),
+                    0);
+            lines = DataWriter.toLines(students);
+            outputFile = Paths.get(args[4]);
+        } else if (args.length == 4 && args[0].equals("import")) {
+            lines = createImportLines(Integer.parseInt(args[1]), args[2], 0);
+            outputFile = Paths.get(args[3]);
+        } else {
+            System.err.println(USAGE);
+            return;
+        }
+        Files.write(outputFile, lines, StandardCharsets.UTF_8);
+        System.out.println("Wrote " + lines.size() + " lines to " + outputFile);
+    }
+}
@@ -3,29 +3,56 @@ package classify;
 import classify.data.DataHandler;
 import classify.student.StudentList;
 import classify.textfilecode.TextFileHandler;
+import classify.user.CommandMetrics;
 import classify.user.InputParsing;
+import classify.user.InputSource;
+import classify.user.ScriptRunner;
 import classify.user.UserInput;
 import classify.ui.UI;
 import java.io.IOException;
-import java.util.Scanner;
+import java.nio.file.Path;
 
 public class Classify {
-    public static Scanner in = new Scanner(System.in);
+    //@@author alalal47
+    static {
+        UI.useBufferedConsole();
+    }
+
+    //@@author ParthGandhiNUS
+    public static InputSource in = InputSource.getStandardInput();
     private static final String INPUT_TEXT_FILE_DIRECTORY = "./data/inputFolder";
+    //@@author alalal47
+    private static final String SCRIPT_OPTION = "--script";
+    private static final String METRICS_OPTION = "--metrics";
+
+    //@@author ParthGandhiNUS
 
     /**
      * Main entry-point for the Classify application.
      * 
-     * @param args          Input arguments when running the program.
+     * @param args          Input arguments when running the program: "--script" and the path of a script
+     *                      to run its commands without prompting, and "--metrics" and the path of a file
+     *                      to write the time taken by each command to on exit, both optional.
      * @throws IOException  Thrown when error reading file.
      */
     public static void main(String[] args) throws IOException {
         //@@author ParthGandhiNUS
         DataHandler.readStudentInfo(StudentList.masterStudentList);
         DataHandler.readArchive(StudentList.archiveList);
+        //@@author alalal47
+        Runtime.getRuntime().addShutdownHook(new Thread(DataHandler::flushOnExit, "classify-shutdown"));
 
         //@@author ParthGandhiNUS
         TextFileHandler.createTextFileDirectory(INPUT_TEXT_FILE_DIRECTORY);
+        //@@author alalal47
+        String scriptPath = getOption(args, SCRIPT_OPTION);
+        String metricsPath = getOption(args, METRICS_OPTION);
+        if (scriptPath != null) {
+            ScriptRunner.runScript(scriptPath);
+            writeMetrics(metricsPath);
+            return;
+        }
+        //@@author ParthGandhiNUS
         UI.printWelcomeMessage();
         
         // Takes in input from the user, and processes input to determine if it contains a command and a name   
@@ -33,13 +60,55 @@ public class Classify {
 
         // Set up polling for the first word input by the user.
         // If user's first word is "bye", will exit the while loop.
-        while (userCommand == null || !(userCommand[0].equals("bye"))) {
-            UI.printSubsequentUserPrompt();
-            userCommand = UserInput.processInput(in.nextLine());
-            InputParsing.parseUserCommand(userCommand, StudentList.masterStudentList, StudentList.recentlyDeletedList,
-                    StudentList.archiveList, in);
-            DataHandler.writeStudentInfo();
-            DataHandler.writeArchive(StudentList.archiveList);
+        try {
+            while (userCommand == null || !(userCommand[0].equals("bye"))) {
+                UI.printSubsequentUserPrompt();
+                //@@author alalal47
+                String line = in.nextLine();
+                long parseStart = System.nanoTime();
+                //@@author ParthGandhiNUS
+                userCommand = UserInput.processInput(line);
+                //@@author alalal47
+                CommandMetrics.recordParse(System.nanoTime() - parseStart);
+                //@@author ParthGandhiNUS
+                InputParsing.parseUserCommand(userCommand, StudentList.masterStudentList,
+                        StudentList.recentlyDeletedList, StudentList.archiveList, in);
+                //@@author alalal47
+                long saveStart = System.nanoTime();
+                //@@author ParthGandhiNUS
+                DataHandler.saveChanges();
+                //@@author alalal47
+                CommandMetrics.recordSave(System.nanoTime() - saveStart);
+                UI.flush();
+                //@@author ParthGandhiNUS
+            }
+            DataHandler.close();
+            //@@author alalal47
+            writeMetrics(metricsPath);
+        } finally {
+            UI.flush();
+        }
+    }
+
+    /**
+     * Returns the value given after an option, such as the path after --script.
+     *
+     * @param args   Input arguments when running the program.
+     * @param option Option to find.
+     * @return Argument after the option, or null if the option was not given.
+     */
+    private static String getOption(String[] args, String option) {
+        for (int i = 0; i + 1 < args.length; i++) {
+            if (args[i].equals(option)) {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+
+    private static void writeMetrics(String metricsPath) {
+        if (metricsPath != null) {
+            CommandMetrics.writeMetricsFile(Path.of(metricsPath));
         }
     }
 }
@@ -1,18 +1,20 @@
 
 package classify.commands;
 
+import classify.data.DataHandler;
 import classify.student.Student;
 import classify.student.StudentAttributes;
 import classify.student.StudentList;
 import classify.student.SubjectGrade;
 import classify.ui.UI;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 import classify.user.InvalidCharacterException;
 import classify.user.InvalidSubjectException;
 import classify.user.NameNumberMatchException;
 import java.util.ArrayList;
-import java.util.Scanner;
 import java.util.logging.Level;
+import java.util.regex.Pattern;
 
 import static classify.user.InputParsing.LOGGER;
 import static classify.user.InputParsing.readInString;
@@ -25,6 +27,7 @@ public class AddStudent {
     private static final String SUBJECT_ENTER_NOTHING_TO_SKIP = "Subject (enter nothing to skip): ";
     private static final String STUDENT_ADDED_SUCCESSFULLY = "Student added successfully.";
     private static final String NUMBER_IS_OUTSIDE_THE_ACCEPTABLE_RANGE = "Number is outside the acceptable range.";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
 
     /**
      * Adds a new student to the list of students.
@@ -38,7 +41,7 @@ public class AddStudent {
      * @param studentName       The name of the student if the user had entered it
      *                          before being prompted
      */
-    public static void addStudent(ArrayList<Student> masterStudentList, Scanner in, String studentName) {
+    public static void addStudent(ArrayList<Student> masterStudentList, InputSource in, String studentName) {
         String name;
 
         try {
@@ -97,12 +100,12 @@ public class AddStudent {
      * Sets attributes for a given student, including phone number, gender, last payment date, and remarks.
      *
      * @param masterStudentList The list of all students.
-     * @param in The Scanner object for user input.
+     * @param in The InputSource for user input.
      * @param student The student whose attributes are being set.
      * @param number The phone number to set for the student.
      */
     private static void setAttributesForStudent(ArrayList<Student> masterStudentList,
-                                                Scanner in, Student student, int number) {
+                                                InputSource in, Student student, int number) {
         student.getAttributes().setPhoneNumber(number);
 
         UI.promptForGender();
@@ -115,6 +118,7 @@ public class AddStudent {
 
         //@@author tayponghee
         masterStudentList.add(student);
+        DataHandler.recordAdded(masterStudentList, student);
         LOGGER.log(Level.INFO, STUDENT_ADDED_SUCCESSFULLY);
         UI.printStudentAdded();
         UI.printDivider();
@@ -132,7 +136,7 @@ public class AddStudent {
      *                          before being prompted
      * @return The valid non-empty name entered by the user.
      */
-    public static String checkForEmptyName(ArrayList<Student> masterStudentList, Scanner in, String studentName)
+    public static String checkForEmptyName(ArrayList<Student> masterStudentList, InputSource in, String studentName)
             throws InvalidCharacterException {
         String name;
 
@@ -174,7 +178,7 @@ public class AddStudent {
     public static String splitName(String name) {
         if (!name.isEmpty()) {
             StringBuilder result = new StringBuilder();
-            String[] words = name.split("\\s");
+            String[] words = WHITESPACE.split(name);
             return capitaliseFirstLetters(words, result);
         }
         return name;
@@ -208,7 +212,7 @@ public class AddStudent {
      * @param attributes The StudentAttributes object to store the attributes of the
      *                   student.
      */
-    public static void addSubject(Scanner in, StudentAttributes attributes) {
+    public static void addSubject(InputSource in, StudentAttributes attributes) {
         while (true) {
             //@@author blackmirag3
             System.out.print(SUBJECT_ENTER_NOTHING_TO_SKIP);
@@ -242,7 +246,7 @@ public class AddStudent {
      * @param subject    The subject to be added.
      * @return True if the user chooses not to add another subject and grade, false otherwise.
      */
-    private static boolean isValidSubjectResponse(Scanner in, StudentAttributes attributes, String subject) {
+    private static boolean isValidSubjectResponse(InputSource in, StudentAttributes attributes, String subject) {
         double grade = Math.max(InputParsing.promptForGrade(in), 0);
         int classesAttended = promptForClassesAttended(in);
 
@@ -272,7 +276,7 @@ public class AddStudent {
      * @param in The scanner object to read user input.
      * @return The valid number of classes attended.
      */
-    public static int promptForClassesAttended(Scanner in) {
+    public static int promptForClassesAttended(InputSource in) {
         while (true) {
             UI.printClassesAttendedPrompt();
             String classesAttendedInput = in.nextLine();
@@ -5,10 +5,10 @@ import classify.student.Student;
 import classify.student.StudentList;
 import classify.ui.UI;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 import classify.user.NameNumberMatchException;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,15 +19,15 @@ public class ArchiveCommands {
     /***
      * Prompts for student name to search in archive list
      * If student exists, this method removes student from archive list to add to master list
-     * Writes archive and student information file in data directory
+     * Records the move in the archive and student information journals
      *
      * @param masterList ArrayList of Students who are in master list
      * @param archiveList ArrayList of Students who are archived
      * @param name String for student's name
-     * @param in Scanner to read user input
+     * @param in InputSource to read user input
      */
     public static void unarchiveStudent(ArrayList<Student> masterList, ArrayList<Student> archiveList,
-                                        String name, Scanner in) {
+                                        String name, InputSource in) {
 
         Student student = getStudent(archiveList, name, in);
 
@@ -54,22 +54,22 @@ public class ArchiveCommands {
         UI.println("Unarchive successful.");
         logger.log(Level.INFO, "Unarchived " + student.getName());
 
-        DataHandler.writeArchive(archiveList);
-        DataHandler.writeStudentInfo(masterList);
+        DataHandler.recordRemoved(archiveList, student);
+        DataHandler.recordAdded(masterList, student);
     }
 
     /***
      * Prompts for student name to search in master student list
      * If student exists, this method removes student from master list to add to archive list
-     * Writes archive and student information file in data directory
+     * Records the move in the archive and student information journals
      *
      * @param masterList ArrayList of Students who are in master list
      * @param archiveList ArrayList of Students who are archived
      * @param name String for student's name
-     * @param in Scanner to read user input
+     * @param in InputSource to read user input
      */
     public static void archiveStudent(ArrayList<Student> masterList, ArrayList<Student> archiveList,
-                                      String name, Scanner in) {
+                                      String name, InputSource in) {
 
         Student student = getStudent(masterList, name, in);
 
@@ -95,11 +95,11 @@ public class ArchiveCommands {
         UI.println("Archive successful.");
         logger.log(Level.INFO, "Archived " + student.getName());
 
-        DataHandler.writeArchive(archiveList);
-        DataHandler.writeStudentInfo(masterList);
+        DataHandler.recordRemoved(masterList, student);
+        DataHandler.recordAdded(archiveList, student);
     }
 
-    private static Student getStudent(ArrayList<Student> archiveList, String name, Scanner in) {
+    private static Student getStudent(ArrayList<Student> archiveList, String name, InputSource in) {
         if (name == null || name.isBlank()) {
             name = Commands.promptName(in);
         }
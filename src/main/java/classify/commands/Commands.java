@@ -1,8 +1,7 @@
 package classify.commands;
 
 import classify.ui.UI;
-
-import java.util.Scanner;
+import classify.user.InputSource;
 
 //@@author blackmirag3
 public class Commands {
@@ -12,7 +11,7 @@ public class Commands {
      * @param in String containing student's name
      * @return
      */
-    public static String promptName(Scanner in) {
+    public static String promptName(InputSource in) {
         UI.printStudentNamePrompt();
         return in.nextLine().trim();
     }
@@ -4,11 +4,11 @@ import classify.data.DataHandler;
 import classify.student.Student;
 import classify.student.StudentList;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 import classify.user.NameNumberMatchException;
 import classify.ui.UI;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 
 public class DeleteCommands extends Commands {
     //@@author alalal47
@@ -23,7 +23,7 @@ public class DeleteCommands extends Commands {
      *                            before being prompted
      */
     public static void deleteStudent(ArrayList<Student> masterStudentList, ArrayList<Student> recentlyDeletedList,
-                                     Scanner in, String studentName) {
+                                     InputSource in, String studentName) {
         //@@author blackmirag3
         if (studentName == null) {
             studentName = promptName(in);
@@ -48,7 +48,7 @@ public class DeleteCommands extends Commands {
         masterStudentList.remove(student);
         //@@author alalal47
         assert masterStudentList.contains(student) == false : "student should be removed";
-        DataHandler.writeStudentInfo(masterStudentList);
+        DataHandler.recordRemoved(masterStudentList, student);
 
     }
 
@@ -63,7 +63,7 @@ public class DeleteCommands extends Commands {
      *                            before being prompted
      */
     public static void restoreStudent(ArrayList<Student> masterStudentList, ArrayList<Student> recentlyDeletedList,
-                                      Scanner in, String studentName) {
+                                      InputSource in, String studentName) {
         //@@author blackmirag3
         if (studentName == null || studentName.isBlank()) {
             studentName = promptName(in);
@@ -86,7 +86,7 @@ public class DeleteCommands extends Commands {
             UI.printDivider();
             masterStudentList.add(student);
             recentlyDeletedList.remove(student);
-            DataHandler.writeStudentInfo();
+            DataHandler.recordAdded(masterStudentList, student);
 
         //@@author Cryolian
         } catch (NameNumberMatchException e) {
@@ -131,6 +131,7 @@ public class DeleteCommands extends Commands {
 
         masterStudentList.add(student);
         recentlyDeletedList.remove(student);
+        DataHandler.recordAdded(masterStudentList, student);
         UI.printDeleteUndone();
         UI.printDivider();
     }
@@ -3,15 +3,16 @@ package classify.commands;
 import static classify.user.InputParsing.readInString;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import classify.data.DataHandler;
 import classify.student.Student;
 import classify.student.StudentAttributes;
 import classify.student.StudentList;
 import classify.student.SubjectGrade;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 import classify.user.InvalidSubjectException;
 import classify.user.NameNumberMatchException;
 import classify.ui.UI;
@@ -28,7 +29,7 @@ public class EditStudent extends Commands {
     private static final String EDIT_GENDER = "7";
     private static final String DEFAULT_STRING_VALUE = "Unknown";
 
-    public static void editStudent(Scanner in, String name) {
+    public static void editStudent(InputSource in, String name) {
         logger.log(Level.INFO,"Finding " + name + ".");
         Student student = getStudent(in, name);
 
@@ -42,7 +43,7 @@ public class EditStudent extends Commands {
         editStudentDetails(in, student);
     }
 
-    private static Student getStudent(Scanner in, String name) {
+    private static Student getStudent(InputSource in, String name) {
 
         ArrayList<Student> list = StudentList.masterStudentList;
         if (list.isEmpty()) {
@@ -63,12 +64,28 @@ public class EditStudent extends Commands {
         return InputParsing.findStudentByName(list, name, in);
     }
 
-    private static void editStudentDetails(Scanner in, Student student) {
+    private static void editStudentDetails(InputSource in, Student student) {
 
         assert student != null;
         StudentAttributes attributes = student.getAttributes();
         ViewStudent.showStudentInfo(student);
+        String oldName = student.getName();
+        int oldPhoneNumber = student.getPhoneNumber();
+        int oldChangeCount = student.getChangeCount();
 
+        //@@author alalal47
+        // Changes made before the input ends, such as a script ending in the middle of the edit, are kept too
+        try {
+            runEditCommands(in, student, attributes);
+        } finally {
+            if (student.getChangeCount() != oldChangeCount) {
+                DataHandler.recordUpdated(StudentList.masterStudentList, oldName, oldPhoneNumber, student);
+            }
+        }
+    }
+
+    private static void runEditCommands(InputSource in, Student student, StudentAttributes attributes) {
+        //@@author blackmirag3
         while (true) {
             UI.printEditPrompt();
             String command = in.nextLine().trim();
@@ -134,7 +151,7 @@ public class EditStudent extends Commands {
      * @param attributes       The attributes object of the student that the user has chosen to edit.
      */
     //@@author Cryolian
-    private static void editPaymentDate(Scanner in, StudentAttributes attributes) {
+    private static void editPaymentDate(InputSource in, StudentAttributes attributes) {
         //@@author blackmirag3
         assert attributes != null;
         //@@author Cryolian
@@ -150,7 +167,7 @@ public class EditStudent extends Commands {
      * @param attributes       The attributes object of the student that the user has chosen to edit.
      */
     //@@author Cryolian
-    private static void editRemarks(Scanner in, StudentAttributes attributes) {
+    private static void editRemarks(InputSource in, StudentAttributes attributes) {
         //@@author blackmirag3
         assert attributes != null;
         //@@author Cryolian
@@ -176,7 +193,7 @@ public class EditStudent extends Commands {
      * @param attributes       The attributes object of the student that the user has chosen to edit.
      */
     //@@author Cryolian
-    private static void editGender(Scanner in, StudentAttributes attributes) {
+    private static void editGender(InputSource in, StudentAttributes attributes) {
         //@@author blackmirag3
         assert attributes != null;
         //@@author Cryolian
@@ -203,7 +220,7 @@ public class EditStudent extends Commands {
      * @param attributes       The attributes object of the student that the user has chosen to edit.
      */
     //@@author Cryolian
-    private static void editNumber(Scanner in, StudentAttributes attributes) {
+    private static void editNumber(InputSource in, StudentAttributes attributes) {
         try {
             //@@author blackmirag3
             assert attributes != null;
@@ -228,7 +245,7 @@ public class EditStudent extends Commands {
      * @param attributes       The attributes object of the student that the user has chosen to edit.
      */
     //@@author Cryolian
-    private static void openNumberEditInterface(Scanner in, StudentAttributes attributes)
+    private static void openNumberEditInterface(InputSource in, StudentAttributes attributes)
             throws NameNumberMatchException, NumberFormatException {
         //@@author blackmirag3
         assert attributes != null;
@@ -256,7 +273,7 @@ public class EditStudent extends Commands {
      * @param attributes The StudentAttributes object to store the attributes of the
      *                   student.
      */
-    private static void editSubject(Scanner in, StudentAttributes attributes) {
+    private static void editSubject(InputSource in, StudentAttributes attributes) {
         //@@author blackmirag3
         assert attributes != null;
         //@@author Cryolian
@@ -267,7 +284,7 @@ public class EditStudent extends Commands {
         //System.out.println("Subject updated.");
     }
 
-    private static void updateSubjectAttendance(Scanner in, SubjectGrade currentSubject) {
+    private static void updateSubjectAttendance(InputSource in, SubjectGrade currentSubject) {
 
         if (currentSubject == null) {
             return;
@@ -276,7 +293,7 @@ public class EditStudent extends Commands {
         currentSubject.setClassesAttended(newClassesAttended);
     }
 
-    private static void updateSubjectGrade(Scanner in, SubjectGrade currentSubject) {
+    private static void updateSubjectGrade(InputSource in, SubjectGrade currentSubject) {
 
         if (currentSubject == null) {
             return;
@@ -287,7 +304,7 @@ public class EditStudent extends Commands {
         }
     }
 
-    private static SubjectGrade promptForSubject(Scanner in, StudentAttributes attributes) {
+    private static SubjectGrade promptForSubject(InputSource in, StudentAttributes attributes) {
 
         while (true) {
             System.out.print("Subject to edit (enter nothing to exit): ");
@@ -310,7 +327,7 @@ public class EditStudent extends Commands {
         }
     }
 
-    private static void updateSubjectName(Scanner in, StudentAttributes attributes,
+    private static void updateSubjectName(InputSource in, StudentAttributes attributes,
                                    SubjectGrade currentSubject) {
         if (currentSubject == null) {
             return;
@@ -343,7 +360,7 @@ public class EditStudent extends Commands {
      * @param attributes       The attributes object of the student that the user has chosen to edit.
      */
     //@@author blackmirag3
-    private static void deleteSubject(Scanner in, StudentAttributes attributes) {
+    private static void deleteSubject(InputSource in, StudentAttributes attributes) {
         while (true) {
 
             System.out.println("Subject to delete (enter blank to exit)");
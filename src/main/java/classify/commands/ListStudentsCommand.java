@@ -1,14 +1,19 @@
 package classify.commands;
 
+import classify.student.IndexedStudentList;
 import classify.student.Student;
 import classify.student.StudentAttributes;
+import classify.student.StudentIndexes;
 import classify.student.StudentList;
 import classify.student.SubjectGrade;
 import classify.ui.UI;
+import classify.user.InputSource;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Scanner;
+import java.util.PriorityQueue;
 
 //@@ author blackmirag3
 public class ListStudentsCommand {
@@ -31,6 +36,23 @@ public class ListStudentsCommand {
     private static final String LIST_OF_STUDENTS_WITH_PHONE_NUMBERS = "List of students with phone numbers:";
     private static final String PHONE_NUM = " - Phone Number: ";
     private static final String INVALID_PHONE_NUMBER = " - Invalid Phone Number! Save file may be corrupt.";
+    //@@author alalal47
+    static final int DEFAULT_PAGE_SIZE = 20;
+    private static final String PAGE_OPTION = "--page";
+    private static final String SIZE_OPTION = "--size";
+    private static final String TOP_OPTION = "--top";
+    private static final String BY_OPTION = "--by";
+    private static final String BY_CLASSES = "classes";
+    private static final String BY_PAYMENT = "payment";
+    private static final String PAGE_HEADER = "Page %d of %d, students %d to %d of %d:";
+    private static final String PAGE_PAST_END = "There are only %d pages of %d students.";
+    private static final String TOP_CLASSES_HEADER = "%d students with the fewest classes attended:";
+    private static final String TOP_PAYMENT_HEADER = "%d students with the least recent payment:";
+    private static final String LAST_PAYMENT_DATE = " - Date of last payment: ";
+    private static final Comparator<Student> CLASSES_ORDER =
+            Comparator.comparingInt(Student::getTotalClassesAttended);
+    private static final Comparator<Student> PAYMENT_ORDER =
+            Comparator.comparing(Student::getLastPaymentDate, Comparator.nullsFirst(Comparator.naturalOrder()));
 
 
     /**
@@ -43,11 +65,11 @@ public class ListStudentsCommand {
      * @param subject           Optional subject to filter the list of students.
      */
     public static void chooseListType(ArrayList<Student> masterStudentList, ArrayList<Student> archiveList,
-                                      ArrayList<Student> deletedList,Scanner in, String subject) {
+                                      ArrayList<Student> deletedList,InputSource in, String subject) {
         if (subject != null && !subject.isEmpty()) {
             listStudentsBySubject(masterStudentList, subject);
         } else {
-            listAllStudents(masterStudentList, archiveList, deletedList);
+            listAllStudents(masterStudentList, archiveList, deletedList, in);
         }
     }
 
@@ -61,18 +83,22 @@ public class ListStudentsCommand {
         boolean isFound = false;
         UI.printStudentsWithSubject(subject);
 
-        for (Student student : masterStudentList) {
-            if (student.hasSubject(subject)) {
-                int classesAttended = getClassesAttendedForSubject(student, subject);
-                if (classesAttended >= 0) {
-                    UI.println("- " + student.getName() +
-                            " - Classes Attended for " + subject + ": " + classesAttended);
-                } else {
-                    UI.println("- " + student.getName() + " - " + "No Classes Attended found for " + subject);
-                }
-                isFound = true;
+        //@@author alalal47
+        StringBuilder lines = UI.startLines();
+        //@@author tayponghee
+        for (Student student : getStudentsWithSubject(masterStudentList, subject)) {
+            int classesAttended = getClassesAttendedForSubject(student, subject);
+            if (classesAttended >= 0) {
+                lines.append("- ").append(student.getName())
+                        .append(" - Classes Attended for ").append(subject).append(": ").append(classesAttended);
+            } else {
+                lines.append("- ").append(student.getName())
+                        .append(" - No Classes Attended found for ").append(subject);
             }
+            lines.append(System.lineSeparator());
+            isFound = true;
         }
+        UI.printLines(lines);
 
         if (!isFound) {
             UI.printNoStudentsWithSubject(subject);
@@ -81,6 +107,28 @@ public class ListStudentsCommand {
         UI.printDivider();
     }
 
+    //@@author alalal47
+    /**
+     * Returns the students taking the subject, in list order, from the subject index if the list keeps one.
+     *
+     * @param masterStudentList The list of all students.
+     * @param subject           The subject to filter the list of students.
+     * @return The students taking the subject.
+     */
+    private static List<Student> getStudentsWithSubject(ArrayList<Student> masterStudentList, String subject) {
+        if (masterStudentList instanceof IndexedStudentList) {
+            return ((IndexedStudentList) masterStudentList).getIndexes().getStudentsWithSubject(subject);
+        }
+        List<Student> students = new ArrayList<>();
+        for (Student student : masterStudentList) {
+            if (student.hasSubject(subject)) {
+                students.add(student);
+            }
+        }
+        return students;
+    }
+
+    //@@author tayponghee
     /**
      * Gets the total number of classes attended by a student for the specified subject.
      *
@@ -111,13 +159,13 @@ public class ListStudentsCommand {
      * Lists all students in the provided list, giving the user the option to choose the type of list to display.
      *
      * @param masterStudentList The list of all students.
+     * @param in                The user's input.
      */
     public static void listAllStudents(ArrayList<Student> masterStudentList,
-                                       ArrayList<Student> archiveList, ArrayList<Student> deletedList ) {
+                                       ArrayList<Student> archiveList, ArrayList<Student> deletedList, InputSource in) {
 
         UI.printListAllStudentsChoice();
-        Scanner scanner = new Scanner(System.in);
-        String choice = scanner.nextLine().trim();
+        String choice = in.nextLine().trim();
 
         //@@ author blackmirag3
         switch (choice) {
@@ -176,22 +224,16 @@ public class ListStudentsCommand {
      * @param masterStudentList The list of all students.
      */
     static void listStudentsWithTotalClasses(ArrayList<Student> masterStudentList) {
+        //@@author alalal47
+        StringBuilder lines = UI.startLines();
+        //@@author tayponghee
         int i = 1;
         for (Student student : masterStudentList) {
-            int totalClassesAttended = 0;
-            
-            for (SubjectGrade subjectGrade : student.getAttributes().getSubjectGrades()) {
-                if (subjectGrade.getClassesAttended() >= 0) {
-                    totalClassesAttended += subjectGrade.getClassesAttended();
-                } else {
-                    totalClassesAttended += 0;
-                }
-            }
-
-            System.out.println(i + "." + student.getName() + TOTAL_CLASSES_ATTENDED +
-                    totalClassesAttended);
+            lines.append(i).append('.').append(student.getName()).append(TOTAL_CLASSES_ATTENDED)
+                    .append(student.getTotalClassesAttended()).append(System.lineSeparator());
             i++;
         }
+        UI.printLines(lines);
     }
 
     /**
@@ -201,16 +243,22 @@ public class ListStudentsCommand {
      */
     public static void listStudentsWithPhoneNumbers(ArrayList<Student> masterStudentList) {
 
+        //@@author alalal47
+        StringBuilder lines = UI.startLines();
+        //@@author tayponghee
         int i = 1;
         for (Student student : masterStudentList) {
             int phoneNumber = student.getAttributes().getPhoneNumber();
+            lines.append(i).append('.').append(student.getName());
             if (isValidPhoneNumber(phoneNumber)) {
-                System.out.println(i + "." + student.getName() + PHONE_NUM + phoneNumber);
+                lines.append(PHONE_NUM).append(phoneNumber);
             } else {
-                System.out.println(i + "." + student.getName() + INVALID_PHONE_NUMBER);
+                lines.append(INVALID_PHONE_NUMBER);
             }
+            lines.append(System.lineSeparator());
             i++;
         }
+        UI.printLines(lines);
 
     }
 
@@ -224,4 +272,166 @@ public class ListStudentsCommand {
         return phoneNumber >= 80000000 && phoneNumber <= 99999999;
     }
 
+    //@@author alalal47
+    /**
+     * Lists one page of the students, or the first few students by classes attended or payment date,
+     * according to the options typed after 'list', so that a long list never has to be printed in full.
+     *
+     * @param masterStudentList The list of all students.
+     * @param options           Options typed after 'list', such as "--page 2 --size 50" or "--top 20 --by payment".
+     */
+    public static void listWithOptions(ArrayList<Student> masterStudentList, String options) {
+        String[] words = options.trim().split("\\s+");
+        int page = 0;
+        int size = DEFAULT_PAGE_SIZE;
+        int top = 0;
+        String order = null;
+
+        if (words.length % 2 != 0) {
+            UI.printInvalidListCommand();
+            return;
+        }
+        for (int i = 0; i < words.length; i += 2) {
+            String option = words[i].toLowerCase();
+            String value = words[i + 1].toLowerCase();
+            if (option.equals(BY_OPTION)) {
+                order = value;
+                continue;
+            }
+            int number = parseNumber(value);
+            if (number <= 0) {
+                UI.printInvalidListCommand();
+                return;
+            }
+            switch (option) {
+            case PAGE_OPTION:
+                page = number;
+                break;
+            case SIZE_OPTION:
+                size = number;
+                break;
+            case TOP_OPTION:
+                top = number;
+                break;
+            default:
+                UI.printInvalidListCommand();
+                return;
+            }
+        }
+
+        if (top > 0 && page == 0 && (BY_CLASSES.equals(order) || BY_PAYMENT.equals(order))) {
+            listFirstStudents(masterStudentList, top, order);
+        } else if (page > 0 && top == 0 && order == null) {
+            listPage(masterStudentList, page, size);
+        } else {
+            UI.printInvalidListCommand();
+        }
+    }
+
+    private static int parseNumber(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Lists one page of the students in list order, numbered by their position in the whole list.
+     *
+     * @param masterStudentList The list of all students.
+     * @param page              The page to list, starting from 1.
+     * @param size              The number of students on each page.
+     */
+    static void listPage(ArrayList<Student> masterStudentList, int page, int size) {
+        int studentCount = masterStudentList.size();
+        int pageCount = Math.max(1, (int) (((long) studentCount + size - 1) / size));
+        if (page > pageCount) {
+            UI.println(String.format(PAGE_PAST_END, pageCount, size));
+            UI.printDivider();
+            return;
+        }
+
+        int start = (int) Math.min((long) (page - 1) * size, studentCount);
+        int end = (int) Math.min((long) start + size, studentCount);
+        UI.println(String.format(PAGE_HEADER, page, pageCount, Math.min(start + 1, end), end, studentCount));
+        StringBuilder lines = UI.startLines();
+        for (int i = start; i < end; i++) {
+            lines.append(i + 1).append(StudentList.DOT).append(masterStudentList.get(i)).append(System.lineSeparator());
+        }
+        UI.printLines(lines);
+        StudentList.printCurrentArrayMessage(masterStudentList);
+        UI.printDivider();
+    }
+
+    /**
+     * Lists the students with the fewest classes attended or the least recent payment, without sorting
+     * the whole list. Students who tie are listed in list order.
+     *
+     * @param masterStudentList The list of all students.
+     * @param count             The number of students to list.
+     * @param order             Either "classes" or "payment".
+     */
+    static void listFirstStudents(ArrayList<Student> masterStudentList, int count, String order) {
+        boolean isByClasses = BY_CLASSES.equals(order);
+        List<Student> students = findFirstStudents(masterStudentList, count, isByClasses);
+
+        UI.println(String.format(isByClasses ? TOP_CLASSES_HEADER : TOP_PAYMENT_HEADER, students.size()));
+        StringBuilder lines = UI.startLines();
+        int i = 1;
+        for (Student student : students) {
+            lines.append(i).append('.').append(student.getName());
+            if (isByClasses) {
+                lines.append(TOTAL_CLASSES_ATTENDED).append(student.getTotalClassesAttended());
+            } else {
+                lines.append(LAST_PAYMENT_DATE).append(student.getLastPaymentDate());
+            }
+            lines.append(System.lineSeparator());
+            i++;
+        }
+        UI.printLines(lines);
+        UI.printDivider();
+    }
+
+    /**
+     * Returns the first students in the given order, with ties in list order.
+     * Indexed lists read them from the front of their index, and other lists keep the best students seen so far
+     * in a heap of the given size, so the whole list is never sorted.
+     *
+     * @param masterStudentList The list of all students.
+     * @param count             The number of students to return.
+     * @param isByClasses       True to order by classes attended, false to order by payment date.
+     * @return Up to count students, in order.
+     */
+    static List<Student> findFirstStudents(ArrayList<Student> masterStudentList, int count, boolean isByClasses) {
+        if (masterStudentList instanceof IndexedStudentList) {
+            StudentIndexes indexes = ((IndexedStudentList) masterStudentList).getIndexes();
+            return isByClasses
+                    ? indexes.getStudentsByTotalClasses(count)
+                    : indexes.getStudentsByLastPaymentDate(count);
+        }
+
+        Comparator<Student> order = isByClasses ? CLASSES_ORDER : PAYMENT_ORDER;
+
+        Comparator<Integer> positionOrder = (first, second) -> {
+            int comparison = order.compare(masterStudentList.get(first), masterStudentList.get(second));
+            return comparison != 0 ? comparison : Integer.compare(first, second);
+        };
+        PriorityQueue<Integer> best = new PriorityQueue<>(Math.min(count, masterStudentList.size()) + 1,
+                positionOrder.reversed());
+        for (int i = 0; i < masterStudentList.size(); i++) {
+            if (best.size() < count) {
+                best.add(i);
+            } else if (positionOrder.compare(i, best.peek()) < 0) {
+                best.poll();
+                best.add(i);
+            }
+        }
+
+        Student[] students = new Student[best.size()];
+        for (int i = students.length - 1; i >= 0; i--) {
+            students[i] = masterStudentList.get(best.poll());
+        }
+        return Arrays.asList(students);
+    }
 }
@@ -1,13 +1,13 @@
 package classify.commands;
 
+import classify.student.IndexedStudentList;
 import classify.student.Student;
-import classify.student.StudentAttributes;
-import classify.student.SubjectGrade;
+import classify.student.StudentOrder;
 import classify.ui.UI;
+import classify.user.InputSource;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 public class StudentSorter {
 
@@ -26,9 +26,9 @@ public class StudentSorter {
      *
      * @param masterStudentList The list of students to be sorted.
      * @param choice            The sorting criterion ("1" for name, "2" for total classes, "3" for last paid date).
-     * @param in                The Scanner object for user input.
+     * @param in                The InputSource for user input.
      */
-    public static void sortByChoice(ArrayList<Student> masterStudentList, String choice, Scanner in) {
+    public static void sortByChoice(ArrayList<Student> masterStudentList, String choice, InputSource in) {
         while (!isValidChoice(choice)) {
             UI.println(INVALID_CHOICE);
             choice = in.nextLine().trim();
@@ -78,33 +78,35 @@ public class StudentSorter {
      * @param masterStudentList The list of students to be listed by name.
      */
     private static void listStudentsByName(ArrayList<Student> masterStudentList) {
-        masterStudentList.sort(StudentComparators.nameComparator);
-        listStudents(masterStudentList);
+        //@@author alalal47
+        listStudents(getSortedStudents(masterStudentList, StudentOrder.BY_NAME));
     }
 
+    /**
+     * Returns the students in the given order without reordering the list, so the saved order of the list
+     * stays the same. Indexed lists read the order from their indexes, or from a cached view when sorting by name.
+     *
+     * @param masterStudentList The list of students to sort.
+     * @param order             The order to list the students in.
+     * @return View of the students in the given order.
+     */
+    private static List<Student> getSortedStudents(ArrayList<Student> masterStudentList, StudentOrder<?> order) {
+        if (masterStudentList instanceof IndexedStudentList) {
+            return ((IndexedStudentList) masterStudentList).getSortedView(order);
+        }
+        return order.sort(masterStudentList);
+    }
+
+    //@@author tayponghee
     /**
      * Lists students in the provided list by total classes attended in ascending order.
      *
      * @param masterStudentList The list of students to be listed by total classes attended.
      */
     private static void listStudentsByTotalClasses(ArrayList<Student> masterStudentList) {
-        for (Student student : masterStudentList) {
-            int totalClassesAttended = 0;
-
-            StudentAttributes attributes = student.getAttributes();
-            List<SubjectGrade> subjectGrades = attributes.getSubjectGrades();
-
-            for (SubjectGrade subjectGrade : subjectGrades) {
-                if (subjectGrade.getClassesAttended() >= 0) {
-                    totalClassesAttended += subjectGrade.getClassesAttended();
-                }
-            }
-
-            student.setTotalClassesAttended(totalClassesAttended);
-        }
-        masterStudentList.sort(StudentComparators.classesAttendedComparator);
-        listStudentsWithTotalClasses(masterStudentList);
-
+        //@@author alalal47
+        listStudentsWithTotalClasses(getSortedStudents(masterStudentList, StudentOrder.BY_TOTAL_CLASSES));
+        //@@author tayponghee
         UI.printDivider();
     }
 
@@ -115,8 +117,7 @@ public class StudentSorter {
      * @param masterStudentList The list of students to be listed by total classes attended.
      */
     private static void listStudentsByLastPaidDate(ArrayList<Student> masterStudentList) {
-        masterStudentList.sort(StudentComparators.lastPaidDateComparator);
-        listStudentsWithLastPaidDate(masterStudentList);
+        listStudentsWithLastPaidDate(getSortedStudents(masterStudentList, StudentOrder.BY_LAST_PAYMENT_DATE));
         UI.printDivider();
     }
 
@@ -126,7 +127,7 @@ public class StudentSorter {
      *
      * @param students The list of students to be listed.
      */
-    private static void listStudents(ArrayList<Student> students) {
+    private static void listStudents(List<Student> students) {
         UI.printStudentList(students);
     }
 
@@ -135,13 +136,17 @@ public class StudentSorter {
      *
      * @param students The list of students to be listed.
      */
-    private static void listStudentsWithTotalClasses(ArrayList<Student> students) {
+    private static void listStudentsWithTotalClasses(List<Student> students) {
+        //@@author alalal47
+        StringBuilder lines = UI.startLines();
+        //@@author tayponghee
         int i = 1;
         for (Student student : students) {
-            System.out.println(i + "." + student.getName() + " - Total Classes Attended: " +
-                    student.getTotalClassesAttended());
+            lines.append(i).append('.').append(student.getName()).append(" - Total Classes Attended: ")
+                    .append(student.getTotalClassesAttended()).append(System.lineSeparator());
             i ++;
         }
+        UI.printLines(lines);
     }
 
     //@@author alalal47
@@ -150,12 +155,14 @@ public class StudentSorter {
      * 
      * @param students Takes in an arraylist of all the students.
      */
-    private static void listStudentsWithLastPaidDate(ArrayList<Student> students) {
+    private static void listStudentsWithLastPaidDate(List<Student> students) {
+        StringBuilder lines = UI.startLines();
         int i = 1;
         for (Student student : students) {
-            System.out.println(i + "." + student.getName() + " - Date of last payment: " +
-                    student.getLastPaymentDate());
+            lines.append(i).append('.').append(student.getName()).append(" - Date of last payment: ")
+                    .append(student.getLastPaymentDate()).append(System.lineSeparator());
             i ++;
         }
+        UI.printLines(lines);
     }
 }
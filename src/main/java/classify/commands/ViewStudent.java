@@ -5,10 +5,10 @@ import classify.student.StudentAttributes;
 import classify.student.SubjectGrade;
 import classify.ui.UI;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -26,7 +26,7 @@ public class ViewStudent {
      * @param studentName       The name of the student if the user had entered it
      *                          before being prompted
      */
-    public static void viewStudent(ArrayList<Student> masterStudentList, Scanner in, String studentName) {
+    public static void viewStudent(ArrayList<Student> masterStudentList, InputSource in, String studentName) {
 
         String name;
 
@@ -46,7 +46,7 @@ public class ViewStudent {
 
         if (foundStudent != null) {
             showStudentInfo(foundStudent);
-            int totalClassesAttended = getTotalClassesAttended(foundStudent);
+            int totalClassesAttended = foundStudent.getTotalClassesAttended();
             UI.printTotalClassesAttended(totalClassesAttended);
         } else {
             logger.log(Level.WARNING, "Student not found: " + name);
@@ -74,34 +74,6 @@ public class ViewStudent {
         showAttributes(attributes);
     }
 
-    //@@author tayponghee
-    /**
-     * Calculates the total number of classes attended by the student across all subjects.
-     * If the user does not specify the number of classes the student attended for that subject, i.e.
-     * the user left it blank, the total classes attended would not be affected.
-     *
-     * @param student The student whose total classes attended are to be calculated.
-     * @return The total number of classes attended by the student.
-     */
-    private static int getTotalClassesAttended(Student student) {
-        int totalClassesAttended = 0;
-
-        try {
-            for (classify.student.SubjectGrade subjectGrade : student.getAttributes().getSubjectGrades()) {
-                if (subjectGrade != null && subjectGrade.getClassesAttended() >= 0) {
-                    totalClassesAttended += subjectGrade.getClassesAttended();
-                }
-            }
-        } catch (NullPointerException e) {
-            UI.println("A NullPointerException occurred while calculating total classes attended for student: "
-                    + student.getName());
-            UI.printDivider();
-            return -1;
-        }
-
-        return totalClassesAttended;
-    }
-
     /**
      * Displays the attributes of a student.
      *
@@ -0,0 +1,128 @@
+package classify.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+
+//@@author alalal47
+/**
+ * Single thread which performs every write to the data files, in the order the writes were requested.
+ * Callers hand over journal entries and snapshots which are already fully built, so they never wait on the disk.
+ * All journal entries queued up while an earlier write was running are appended with a single write,
+ * so a burst of commands costs one disk write instead of one per command.
+ */
+final class BackgroundWriter {
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+    private final Thread thread;
+
+    /**
+     * A journal entry waiting to be appended.
+     */
+    private static class JournalAppend implements Runnable {
+        private final DataJournal journal;
+        private final String entry;
+
+        private JournalAppend(DataJournal journal, String entry) {
+            this.journal = journal;
+            this.entry = entry;
+        }
+
+        @Override
+        public void run() {
+            journal.writeEntries(entry);
+        }
+    }
+
+    BackgroundWriter(String threadName) {
+        thread = new Thread(this::processTasks, threadName);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Queues an entry to be appended to the journal.
+     *
+     * @param journal Journal to append to
+     * @param entry   Entry to append, ending with a newline
+     */
+    void append(DataJournal journal, String entry) {
+        tasks.add(new JournalAppend(journal, entry));
+    }
+
+    /**
+     * Queues a write to run after every write requested before it.
+     *
+     * @param write Write to run
+     * @return Future which completes once the write has run
+     */
+    <T> Future<T> submit(Callable<T> write) {
+        FutureTask<T> task = new FutureTask<>(write);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Waits until every write requested so far has finished.
+     */
+    void flush() {
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+        try {
+            submit(() -> null).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail", e);
+        }
+    }
+
+    private void processTasks() {
+        List<Runnable> batch = new ArrayList<>();
+        while (true) {
+            try {
+                batch.add(tasks.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+            tasks.drainTo(batch);
+            processBatch(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Runs every task in the batch in order, joining consecutive entries for the same journal into one write.
+     */
+    private static void processBatch(List<Runnable> batch) {
+        StringBuilder entries = new StringBuilder();
+        DataJournal journal = null;
+
+        for (Runnable task : batch) {
+            if (task instanceof JournalAppend && (journal == null || journal == ((JournalAppend) task).journal)) {
+                journal = ((JournalAppend) task).journal;
+                entries.append(((JournalAppend) task).entry);
+                continue;
+            }
+            if (journal != null) {
+                journal.writeEntries(entries);
+                entries.setLength(0);
+                journal = null;
+            }
+            if (task instanceof JournalAppend) {
+                journal = ((JournalAppend) task).journal;
+                entries.append(((JournalAppend) task).entry);
+            } else {
+                task.run();
+            }
+        }
+        if (journal != null) {
+            journal.writeEntries(entries);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package classify.data;
+
+import classify.student.Student;
+import classify.student.StudentAttributes;
+import classify.student.SubjectGrade;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+//@@author alalal47
+/**
+ * Binary form of a student data file, which holds the same data as the text form written by
+ * Student.textFileInputString but is smaller and needs no parsing.
+ * The file starts with a magic number and a format version, followed by the number of students.
+ * Every student is stored as its name, gender and remarks as length-prefixed UTF-8 strings, its phone number
+ * as an int, its last payment date as an epoch day, and then the number of subjects followed by a
+ * subject name, grade and classes attended triple for each subject.
+ * Students read back are checked in the same way as those read from the text form, so a student with an
+ * invalid phone number or special characters is skipped with the same message.
+ */
+final class BinarySnapshot {
+    static final int VERSION = 1;
+    private static final byte[] MAGIC = {'C', 'L', 'S', 'F'};
+    private static final int NULL_STRING = -1;
+    private static final long NULL_DATE = Long.MIN_VALUE;
+    private static final int BYTES_PER_STUDENT = 64;
+    private static final Logger logger = Logger.getLogger(BinarySnapshot.class.getName());
+
+    private BinarySnapshot() {
+    }
+
+    /**
+     * Returns true if the file starts with the binary snapshot header.
+     *
+     * @param filePath Path of the data file
+     * @return True if the file is a binary snapshot, false if it is missing or in the text format
+     * @throws IOException Thrown when the file could not be read
+     */
+    static boolean isBinarySnapshot(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    /**
+     * Encodes every student in the list, in order, into a binary snapshot.
+     *
+     * @param list List of students to encode
+     * @return Contents of the snapshot file
+     */
+    static byte[] toBytes(List<Student> list) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(MAGIC.length + list.size() * BYTES_PER_STUDENT);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(list.size());
+            for (Student student : list) {
+                writeStudent(out, student);
+            }
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory should not fail", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeStudent(DataOutputStream out, Student student) throws IOException {
+        StudentAttributes attributes = student.getAttributes();
+        writeString(out, student.getName());
+        writeString(out, attributes.getGender());
+        writeString(out, attributes.getRemarks());
+        out.writeInt(attributes.getPhoneNumber());
+        LocalDate lastPaymentDate = attributes.getLastPaymentDate();
+        out.writeLong(lastPaymentDate == null ? NULL_DATE : lastPaymentDate.toEpochDay());
+
+        List<SubjectGrade> subjectGrades = attributes.getSubjectGrades();
+        out.writeInt(subjectGrades.size());
+        for (SubjectGrade subjectGrade : subjectGrades) {
+            writeString(out, subjectGrade.getSubject());
+            out.writeDouble(subjectGrade.getGrade());
+            out.writeInt(subjectGrade.getClassesAttended());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        if (string == null) {
+            out.writeInt(NULL_STRING);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Adds every student in the snapshot to the list, in order.
+     * Students with the same name and phone number as one already loaded are skipped, as for the text form.
+     *
+     * @param filePath Path of the snapshot file
+     * @param list     List to add the students to
+     * @throws IOException Thrown when the file could not be read, or is not a snapshot this version can read
+     */
+    static void load(Path filePath, ArrayList<Student> list) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int sizeBefore = list.size();
+
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            int version = buffer.getInt();
+            if (!Arrays.equals(MAGIC, magic) || version != VERSION) {
+                throw new IOException("Unsupported data file version " + version);
+            }
+
+            int studentCount = buffer.getInt();
+            if (studentCount < 0 || studentCount > buffer.remaining()) {
+                throw new IOException("Invalid number of students " + studentCount);
+            }
+            list.ensureCapacity(sizeBefore + studentCount);
+            for (int i = 0; i < studentCount; i++) {
+                Student student = readStudent(buffer);
+                if (DataReader.isValidStoredStudent(student)) {
+                    StudentFileLoader.addIfNew(student, list);
+                }
+            }
+        } catch (BufferUnderflowException | DateTimeException e) {
+            throw new IOException("Data file is incomplete", e);
+        }
+        logger.log(Level.INFO, (list.size() - sizeBefore) + " students loaded from " + filePath);
+    }
+
+    private static Student readStudent(ByteBuffer buffer) throws IOException {
+        String name = readString(buffer);
+        if (name == null) {
+            throw new IOException("Student without a name");
+        }
+        Student student = new Student(name);
+        StudentAttributes attributes = student.getAttributes();
+        attributes.setGender(readString(buffer));
+        attributes.setRemarks(readString(buffer));
+        attributes.setPhoneNumber(buffer.getInt());
+        long epochDay = buffer.getLong();
+        attributes.setLastPaymentDate(epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay));
+
+        int subjectCount = buffer.getInt();
+        if (subjectCount < 0 || subjectCount > buffer.remaining()) {
+            throw new IOException("Invalid number of subjects " + subjectCount + " for " + name);
+        }
+        for (int i = 0; i < subjectCount; i++) {
+            String subject = readString(buffer);
+            if (subject == null) {
+                throw new IOException("Subject without a name for " + name);
+            }
+            double grade = buffer.getDouble();
+            int classesAttended = buffer.getInt();
+            if (DataReader.isValidStoredSubject(subject)) {
+                attributes.addSubjectGrade(new SubjectGrade(subject, grade, classesAttended));
+            }
+        }
+        return student;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String string = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return string;
+    }
+}
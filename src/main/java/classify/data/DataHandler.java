@@ -3,10 +3,17 @@ package classify.data;
 import classify.commands.Commands;
 import classify.student.Student;
 import classify.student.StudentList;
+import classify.ui.DataUI;
 
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
 
 //@@author blackmirag3
 public class DataHandler extends Commands {
@@ -16,6 +23,24 @@ public class DataHandler extends Commands {
     //@@author blackmirag3
     private static final String ARCHIVE_DIRECTORY_PATH = "data/archive";
     private static final String ARCHIVE_FILE_PATH = ARCHIVE_DIRECTORY_PATH + "/student_archive.txt";
+    //@@author alalal47
+    private static final String DATA_JOURNAL_PATH = DATA_DIRECTORY_PATH + "/Student_Information.journal";
+    private static final String ARCHIVE_JOURNAL_PATH = ARCHIVE_DIRECTORY_PATH + "/student_archive.journal";
+    private static final int COMPACTION_THRESHOLD = 500;
+    private static final BackgroundWriter writer = new BackgroundWriter("classify-writer");
+    private static final DataJournal studentInfoJournal = new DataJournal(DATA_JOURNAL_PATH, writer);
+    private static final DataJournal archiveJournal = new DataJournal(ARCHIVE_JOURNAL_PATH, writer);
+    private static final Map<DataJournal, Future<?>> compactions = new HashMap<>();
+    private static boolean isStudentInfoReordered = false;
+    private static boolean isArchiveReordered = false;
+    /** True once a change to the list has been journalled since the list was last saved. */
+    private static boolean isStudentInfoRecorded = false;
+    private static boolean isArchiveRecorded = false;
+    private static boolean isStudentInfoBinary = false;
+    private static boolean isArchiveBinary = false;
+    private static boolean isSaveDeferred = false;
+    /** Set once the shutdown hook has saved the lists, after which no command may change them. */
+    private static boolean isExiting = false;
 
     //@@author ParthGandhiNUS
     /**
@@ -25,7 +50,7 @@ public class DataHandler extends Commands {
      * @param list ArrayList containing the current students
      */
     public static void writeStudentInfo(List <Student> list) {
-        DataWriter.writeStudentInfoFile(list, DATA_DIRECTORY_PATH, DATA_FILE_PATH);
+        writeDataFile(list, DATA_DIRECTORY_PATH, DATA_FILE_PATH, isStudentInfoBinary);
     }
 
     /***
@@ -33,7 +58,7 @@ public class DataHandler extends Commands {
      * Calls the writeStudentInfoFile function to update Student_Information.txt
      */
     public static void writeStudentInfo() {
-        DataWriter.writeStudentInfoFile(StudentList.masterStudentList, DATA_DIRECTORY_PATH, DATA_FILE_PATH);
+        writeStudentInfo(StudentList.masterStudentList);
     }
 
     /**
@@ -46,17 +71,25 @@ public class DataHandler extends Commands {
 
         System.out.println("Trying to load Student info");
         DataWriter.createParentFileFolder(DATA_DIRECTORY_PATH);
-        DataReader.initialiseData(list, DATA_FILE_PATH);
+        //@@author alalal47
+        isStudentInfoBinary = BinarySnapshot.isBinarySnapshot(Paths.get(DATA_FILE_PATH));
+        //@@author ParthGandhiNUS
+        DataReader.initialiseData(list, DATA_FILE_PATH, studentInfoJournal);
+        if (studentInfoJournal.hasPendingEntries()) {
+            compact(list, studentInfoJournal, DATA_DIRECTORY_PATH, DATA_FILE_PATH, isStudentInfoBinary, true);
+        }
+        StudentList.masterStudentList.clearDirty();
     }
 
     //@@author blackmirag3
     /**
      * writes student info arraylist into archive file and creates new archive file if one is not found
+     * The write happens on the writer thread, after every write requested before it.
      *
      * @param list ArrayList containing the current students to write
      */
     public static void writeArchive(List<Student> list) {
-        DataWriter.writeStudentInfoFile(list, ARCHIVE_DIRECTORY_PATH, ARCHIVE_FILE_PATH);
+        writeDataFile(list, ARCHIVE_DIRECTORY_PATH, ARCHIVE_FILE_PATH, isArchiveBinary);
     }
 
     /**
@@ -69,7 +102,14 @@ public class DataHandler extends Commands {
     public static void readArchive(ArrayList<Student> list) throws IOException {
         System.out.println("Trying to load Student Archive.");
         DataWriter.createParentFileFolder(ARCHIVE_DIRECTORY_PATH);
-        DataReader.initialiseData(list, ARCHIVE_FILE_PATH);
+        //@@author alalal47
+        isArchiveBinary = BinarySnapshot.isBinarySnapshot(Paths.get(ARCHIVE_FILE_PATH));
+        //@@author blackmirag3
+        DataReader.initialiseData(list, ARCHIVE_FILE_PATH, archiveJournal);
+        if (archiveJournal.hasPendingEntries()) {
+            compact(list, archiveJournal, ARCHIVE_DIRECTORY_PATH, ARCHIVE_FILE_PATH, isArchiveBinary, true);
+        }
+        StudentList.archiveList.clearDirty();
     }
 
     //@@author alalal47
@@ -77,7 +117,295 @@ public class DataHandler extends Commands {
      * This accesses Student_Information.txt and calls the emptyDataFile function.
      * Only used in cases of data corruption that cannot be resolved by the user.
      */
-    public static void deleteStudentInfo() {
+    public static synchronized void deleteStudentInfo() {
+        writer.flush();
         DataWriter.emptyDataFile(DATA_DIRECTORY_PATH, DATA_FILE_PATH);
+        studentInfoJournal.clear();
+        isStudentInfoBinary = false;
+    }
+
+    /**
+     * Rewrites the student information and archive files in the binary or the text format.
+     * Both files are kept in the chosen format from then on, and the format is picked up again from
+     * the file header the next time they are read.
+     *
+     * @param isBinary True to convert to the binary format, false to convert to the text format
+     */
+    public static synchronized void convertDataFiles(boolean isBinary) {
+        isStudentInfoBinary = isBinary;
+        isArchiveBinary = isBinary;
+        compact(StudentList.masterStudentList, studentInfoJournal, DATA_DIRECTORY_PATH, DATA_FILE_PATH,
+                isBinary, false);
+        compact(StudentList.archiveList, archiveJournal, ARCHIVE_DIRECTORY_PATH, ARCHIVE_FILE_PATH, isBinary, false);
+        isStudentInfoReordered = false;
+        isArchiveReordered = false;
+    }
+
+    /**
+     * Records a student being added to a list, if that list is saved to a data file.
+     *
+     * @param list    List the student was added to
+     * @param student Student that was added
+     */
+    public static synchronized void recordAdded(List<Student> list, Student student) {
+        if (isSaveDeferred) {
+            recordReordered(list);
+            return;
+        }
+        DataJournal journal = getJournal(list);
+        if (journal != null) {
+            journal.recordAdd(student);
+            markRecorded(list);
+        }
+    }
+
+    /**
+     * Records a student being removed from a list, if that list is saved to a data file.
+     *
+     * @param list    List the student was removed from
+     * @param student Student that was removed
+     */
+    public static synchronized void recordRemoved(List<Student> list, Student student) {
+        if (isSaveDeferred) {
+            recordReordered(list);
+            return;
+        }
+        DataJournal journal = getJournal(list);
+        if (journal != null) {
+            journal.recordRemove(student.getName(), student.getPhoneNumber());
+            markRecorded(list);
+        }
+    }
+
+    /**
+     * Records the details of a student in a list being changed, if that list is saved to a data file.
+     *
+     * @param list           List containing the student
+     * @param oldName        Name of the student before the change
+     * @param oldPhoneNumber Phone number of the student before the change
+     * @param student        Student after the change
+     */
+    public static synchronized void recordUpdated(List<Student> list, String oldName, int oldPhoneNumber,
+                                                  Student student) {
+        if (isSaveDeferred) {
+            recordReordered(list);
+            return;
+        }
+        DataJournal journal = getJournal(list);
+        if (journal != null) {
+            journal.recordUpdate(oldName, oldPhoneNumber, student);
+            markRecorded(list);
+        }
+    }
+
+    private static void markRecorded(List<Student> list) {
+        if (list == StudentList.masterStudentList) {
+            isStudentInfoRecorded = true;
+        } else if (list == StudentList.archiveList) {
+            isArchiveRecorded = true;
+        }
+    }
+
+    /**
+     * Records the order of a list being changed. As the journal does not keep track of ordering,
+     * the whole data file is written again on the next save.
+     *
+     * @param list List that was reordered
+     */
+    public static synchronized void recordReordered(List<Student> list) {
+        if (list == StudentList.masterStudentList) {
+            isStudentInfoReordered = true;
+        } else if (list == StudentList.archiveList) {
+            isArchiveReordered = true;
+        }
+    }
+
+    /**
+     * Stops changes from being journalled or saved until close is called, for scripts which change many
+     * students at once. Each changed list is instead written to its data file once, when close is called.
+     * Changes made before close would be lost if the program stopped, so this is not used for the user.
+     */
+    public static synchronized void deferSaves() {
+        isSaveDeferred = true;
+    }
+
+    /**
+     * Called after every command. Lists which were not changed by the command are skipped entirely.
+     * Changes are already in the journals by this point, so the data files are only rewritten,
+     * in the background, once a journal grows too long, a list has been reordered, or a list was changed
+     * without any change to it being journalled.
+     */
+    public static synchronized void saveChanges() {
+        if (isSaveDeferred) {
+            return;
+        }
+        if (StudentList.masterStudentList.isDirty()) {
+            // A change which was never journalled can only be saved by writing the whole list
+            if (isStudentInfoReordered || !isStudentInfoRecorded
+                    || studentInfoJournal.getEntryCount() >= COMPACTION_THRESHOLD) {
+                isStudentInfoReordered = !compact(StudentList.masterStudentList, studentInfoJournal,
+                        DATA_DIRECTORY_PATH, DATA_FILE_PATH, isStudentInfoBinary, true);
+            }
+            StudentList.masterStudentList.clearDirty();
+            isStudentInfoRecorded = false;
+        }
+        if (StudentList.archiveList.isDirty()) {
+            if (isArchiveReordered || !isArchiveRecorded || archiveJournal.getEntryCount() >= COMPACTION_THRESHOLD) {
+                isArchiveReordered = !compact(StudentList.archiveList, archiveJournal,
+                        ARCHIVE_DIRECTORY_PATH, ARCHIVE_FILE_PATH, isArchiveBinary, true);
+            }
+            StudentList.archiveList.clearDirty();
+            isArchiveRecorded = false;
+        }
+    }
+
+    /**
+     * Waits until every change recorded so far has been written to disk.
+     * Used when the program is stopped without bye, as the journals alone are enough to restore every change.
+     */
+    public static void flush() {
+        writer.flush();
+    }
+
+    /**
+     * Saves whatever has not been saved yet when the program is stopped without bye.
+     * Changes are normally already in the journals and only need to reach the disk, but changes made while
+     * saves are deferred are in no journal, so the changed lists are written to their data files instead.
+     * Runs on the shutdown hook thread, so it waits for a script command that is still running to finish,
+     * and no later command of the script is run.
+     */
+    public static synchronized void flushOnExit() {
+        isExiting = true;
+        if (isSaveDeferred) {
+            close();
+        } else {
+            flush();
+        }
+    }
+
+    /**
+     * Runs a command while no list is being saved, unless the program is already exiting.
+     * Used by scripts, whose commands keep running on the main thread while the shutdown hook saves the lists.
+     *
+     * @param command Command which may change the student lists
+     * @return True if the command was run, false if the lists have already been saved for the exit
+     */
+    public static synchronized boolean runUnlessExiting(Runnable command) {
+        if (isExiting) {
+            return false;
+        }
+        command.run();
+        return true;
+    }
+
+    /**
+     * Folds every journal into its data file before the program exits,
+     * waiting for every write still queued on the writer thread.
+     * Nothing is written if no student was changed since the data files were last written,
+     * so calling this again, such as from both the script and the shutdown hook, does not write anything twice.
+     */
+    public static synchronized void close() {
+        // A list changed while saves were deferred is dirty without being reordered or journalled
+        if (isStudentInfoReordered || StudentList.masterStudentList.isDirty()
+                || studentInfoJournal.hasPendingEntries()) {
+            compact(StudentList.masterStudentList, studentInfoJournal, DATA_DIRECTORY_PATH, DATA_FILE_PATH,
+                    isStudentInfoBinary, false);
+        }
+        if (isArchiveReordered || StudentList.archiveList.isDirty() || archiveJournal.hasPendingEntries()) {
+            compact(StudentList.archiveList, archiveJournal, ARCHIVE_DIRECTORY_PATH, ARCHIVE_FILE_PATH,
+                    isArchiveBinary, false);
+        }
+        StudentList.masterStudentList.clearDirty();
+        StudentList.archiveList.clearDirty();
+        isStudentInfoReordered = false;
+        isArchiveReordered = false;
+        isStudentInfoRecorded = false;
+        isArchiveRecorded = false;
+        isSaveDeferred = false;
+        writer.flush();
+    }
+
+    private static DataJournal getJournal(List<Student> list) {
+        if (list == StudentList.masterStudentList) {
+            return studentInfoJournal;
+        }
+        if (list == StudentList.archiveList) {
+            return archiveJournal;
+        }
+        return null;
+    }
+
+    private static void writeDataFile(List<Student> list, String folderPath, String filePath, boolean isBinary) {
+        BooleanSupplier write = createSnapshotWrite(list, folderPath, filePath, isBinary);
+        writer.submit(write::getAsBoolean);
+    }
+
+    /**
+     * Builds the contents of the data file on the calling thread, and returns the write of those contents,
+     * so that later changes to the list do not affect what is written.
+     */
+    private static BooleanSupplier createSnapshotWrite(List<Student> list, String folderPath, String filePath,
+                                                       boolean isBinary) {
+        if (isBinary) {
+            byte[] bytes = BinarySnapshot.toBytes(list);
+            return () -> DataWriter.writeBytesToFile(bytes, folderPath, filePath);
+        }
+        List<String> lines = DataWriter.toLines(list);
+        return () -> DataWriter.writeLinesToFile(lines, folderPath, filePath);
+    }
+
+    /**
+     * Writes the whole list to its data file and discards the journal entries it now contains.
+     * The contents of the file are built on the calling thread, so later changes to the list do not affect
+     * the write.
+     *
+     * @param list         List to write
+     * @param journal      Journal of the list
+     * @param folderPath   Folder containing the data file
+     * @param filePath     Path of the data file
+     * @param isBinary     True to write the file in the binary format, false for the text format
+     * @param isBackground True to return without waiting for the write to finish
+     * @return True if the compaction was started, false if an earlier one has not finished yet
+     */
+    private static synchronized boolean compact(List<Student> list, DataJournal journal, String folderPath,
+                                                String filePath, boolean isBinary, boolean isBackground) {
+        Future<?> previous = compactions.get(journal);
+        if (previous != null && !previous.isDone()) {
+            if (isBackground) {
+                return false;
+            }
+            waitFor(previous);
+        }
+
+        BooleanSupplier write = createSnapshotWrite(list, folderPath, filePath, isBinary);
+        journal.resetEntryCount();
+
+        Future<?> compaction = writer.submit(() -> {
+            try {
+                journal.beginCompaction();
+                if (write.getAsBoolean()) {
+                    journal.finishCompaction();
+                }
+            } catch (IOException e) {
+                DataUI.printFileIOError();
+            }
+            return null;
+        });
+        compactions.put(journal, compaction);
+
+        if (!isBackground) {
+            waitFor(compaction);
+        }
+        return true;
+    }
+
+    private static void waitFor(Future<?> compaction) {
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            DataUI.printFileIOError();
+        }
     }
 }
@@ -0,0 +1,281 @@
+package classify.data;
+
+import classify.student.IndexedStudentList;
+import classify.student.Student;
+import classify.ui.DataUI;
+import classify.ui.UI;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+//@@author alalal47
+/**
+ * Append-only log of the changes made to a student data file since it was last written in full.
+ * Every entry is a single line, so appending a change costs the same no matter how many students are stored.
+ * Entries are replayed on top of the data file at startup and cleared once the data file is compacted.
+ * When the journal is given a BackgroundWriter, entries are appended on the writer thread instead of
+ * the thread which recorded them.
+ */
+public class DataJournal {
+    static final String ADD = "ADD";
+    static final String REMOVE = "REMOVE";
+    static final String UPDATE = "UPDATE";
+    private static final String SEPARATOR = " ~~ ";
+    private static final String MAIN_REGEX = "~~";
+    private static final String COMPACTING_SUFFIX = ".compacting";
+    private static final String NEWLINE = "\n";
+    private static final String INVALID_ENTRY_MESSAGE = "Skipping unreadable journal entry.";
+    private static final Logger logger = Logger.getLogger(DataJournal.class.getName());
+
+    private final Path journalPath;
+    private final Path compactingPath;
+    private final BackgroundWriter writer;
+    private int entryCount = 0;
+
+    public DataJournal(String journalPath) {
+        this(journalPath, null);
+    }
+
+    DataJournal(String journalPath, BackgroundWriter writer) {
+        this.journalPath = Paths.get(journalPath);
+        this.compactingPath = Paths.get(journalPath + COMPACTING_SUFFIX);
+        this.writer = writer;
+    }
+
+    public int getEntryCount() {
+        return entryCount;
+    }
+
+    /**
+     * Records a student being added to the list backed by this journal.
+     *
+     * @param student The student that was added
+     */
+    public void recordAdd(Student student) {
+        append(ADD + SEPARATOR + student.textFileInputString());
+    }
+
+    /**
+     * Records a student being removed from the list backed by this journal.
+     *
+     * @param name        Name of the student that was removed
+     * @param phoneNumber Phone number of the student that was removed
+     */
+    public void recordRemove(String name, int phoneNumber) {
+        append(REMOVE + SEPARATOR + name.trim() + SEPARATOR + phoneNumber);
+    }
+
+    /**
+     * Records the details of a student changing.
+     * The name and phone number before the change are kept so that the old entry can be found on replay.
+     *
+     * @param oldName        Name of the student before the change
+     * @param oldPhoneNumber Phone number of the student before the change
+     * @param student        The student after the change
+     */
+    public void recordUpdate(String oldName, int oldPhoneNumber, Student student) {
+        append(UPDATE + SEPARATOR + oldName.trim() + SEPARATOR + oldPhoneNumber + SEPARATOR
+                + student.textFileInputString());
+    }
+
+    private void append(String entry) {
+        entryCount++;
+        if (writer == null) {
+            writeEntries(entry + NEWLINE);
+        } else {
+            writer.append(this, entry + NEWLINE);
+        }
+    }
+
+    /**
+     * Appends entries to the journal file.
+     *
+     * @param entries One or more entries, each ending with a newline
+     */
+    void writeEntries(CharSequence entries) {
+        long start = System.nanoTime();
+        byte[] bytes = entries.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            Files.write(journalPath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            DataWriter.recordSave(bytes.length, System.nanoTime() - start);
+        } catch (IOException e) {
+            DataUI.printFileIOError();
+        }
+    }
+
+    /**
+     * Applies every entry left behind by an unfinished compaction and every entry in the journal to the list,
+     * in the order they were recorded.
+     * Adds and updates overwrite a student with the same name and number, so replaying entries that are
+     * already part of the data file leaves the list unchanged.
+     *
+     * @param list List that was loaded from the data file backed by this journal
+     * @return Number of entries replayed
+     */
+    public int replay(ArrayList<Student> list) {
+        int replayed = replayFile(compactingPath, list) + replayFile(journalPath, list);
+        entryCount = replayed;
+        return replayed;
+    }
+
+    private static int replayFile(Path path, ArrayList<Student> list) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        int replayed = 0;
+        FieldScanner fields = new FieldScanner(MAIN_REGEX);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String entry;
+            while ((entry = reader.readLine()) != null) {
+                if (entry.isBlank()) {
+                    continue;
+                }
+                try {
+                    applyEntry(fields.reset(entry), list);
+                    replayed++;
+                } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+                    UI.println(INVALID_ENTRY_MESSAGE);
+                }
+            }
+        } catch (IOException e) {
+            DataUI.printFileIOError();
+        }
+        logger.log(Level.INFO, replayed + " journal entries replayed from " + path);
+        return replayed;
+    }
+
+    /**
+     * Applies one entry, split on the same separator as the lines of the data file.
+     * The student record of an add or update is everything after the fields before it, so it is handed to
+     * DataReader.parseStudentRecord exactly as it appears in the data file.
+     */
+    private static void applyEntry(FieldScanner fields, ArrayList<Student> list) {
+        String operation = fields.getString(0);
+
+        switch (operation) {
+        case ADD:
+            putStudent(list, -1, DataReader.parseStudentRecord(getRecord(fields, 1), false));
+            break;
+
+        case REMOVE:
+            removeStudent(list, fields.getString(1), fields.getInt(2));
+            break;
+
+        case UPDATE:
+            int oldIndex = removeStudent(list, fields.getString(1), fields.getInt(2));
+            putStudent(list, oldIndex, DataReader.parseStudentRecord(getRecord(fields, 3), false));
+            break;
+
+        default:
+            throw new ArrayIndexOutOfBoundsException();
+        }
+    }
+
+    private static String getRecord(FieldScanner fields, int firstField) {
+        CharSequence entry = fields.getText();
+        return entry.subSequence(fields.getFieldStart(firstField), entry.length()).toString();
+    }
+
+    private static void putStudent(ArrayList<Student> list, int index, Student student) {
+        if (student == null) {
+            return;
+        }
+        int existingIndex = findStudent(list, student.getName(), student.getPhoneNumber());
+
+        if (existingIndex >= 0) {
+            list.set(existingIndex, student);
+        } else if (index >= 0 && index <= list.size()) {
+            list.add(index, student);
+        } else {
+            list.add(student);
+        }
+    }
+
+    private static int removeStudent(ArrayList<Student> list, String name, int phoneNumber) {
+        int index = findStudent(list, name, phoneNumber);
+
+        if (index >= 0) {
+            list.remove(index);
+        }
+        return index;
+    }
+
+    private static int findStudent(ArrayList<Student> list, String name, int phoneNumber) {
+        if (list instanceof IndexedStudentList
+                && !((IndexedStudentList) list).containsNameNumber(name, phoneNumber)) {
+            return -1;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            Student student = list.get(i);
+            if (student.getName().equalsIgnoreCase(name) && student.getPhoneNumber() == phoneNumber) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Marks every entry recorded so far as part of a snapshot of the list that is about to be written.
+     */
+    void resetEntryCount() {
+        entryCount = 0;
+    }
+
+    /**
+     * Moves the current entries aside so that a compaction can run while new entries keep being appended.
+     * Entries left behind by an earlier compaction that never finished are kept in front of the current ones.
+     *
+     * @throws IOException Thrown when the journal could not be moved
+     */
+    void beginCompaction() throws IOException {
+        if (Files.exists(journalPath)) {
+            if (Files.exists(compactingPath)) {
+                Files.write(compactingPath, Files.readAllBytes(journalPath), StandardOpenOption.APPEND);
+                Files.delete(journalPath);
+            } else {
+                Files.move(journalPath, compactingPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Discards the entries moved aside by beginCompaction, once the data file containing them has been written.
+     *
+     * @throws IOException Thrown when the old entries could not be deleted
+     */
+    void finishCompaction() throws IOException {
+        Files.deleteIfExists(compactingPath);
+    }
+
+    /**
+     * Returns true if there is anything in the journal which is not yet part of the data file.
+     *
+     * @return True if a compaction would change the data file
+     */
+    boolean hasPendingEntries() {
+        return entryCount > 0 || Files.exists(journalPath) || Files.exists(compactingPath);
+    }
+
+    /**
+     * Deletes every journal entry. Only used together with emptying the data file.
+     */
+    void clear() {
+        try {
+            Files.deleteIfExists(journalPath);
+            Files.deleteIfExists(compactingPath);
+        } catch (IOException e) {
+            DataUI.printFileIOError();
+        }
+        entryCount = 0;
+    }
+}
@@ -6,12 +6,11 @@ import classify.student.StudentList;
 import classify.student.SubjectGrade;
 import classify.ui.DataUI;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 import classify.user.InvalidCharacterException;
 import classify.user.NameNumberMatchException;
 import classify.ui.UI;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -20,7 +19,6 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
-import java.util.Scanner;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -42,8 +40,39 @@ public class DataReader {
     private static final String INVALID_CHAR_MESSAGE = "Invalid character found.";
     private static final String INVALID_NUMBER_MESSAGE = "Invalid Number format found.";
     private static final String ARRAY_INDEX_MESSAGE = "Error reading in subjects.";
+    //@@author alalal47
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final ThreadLocal<FieldScanner> fieldScanner =
+            ThreadLocal.withInitial(() -> new FieldScanner(MAIN_REGEX));
+    private static final ThreadLocal<FieldScanner> subjectScanner =
+            ThreadLocal.withInitial(() -> new FieldScanner(SUBJECT_REGEX));
+    private static final ThreadLocal<FieldScanner> subjectInfoScanner =
+            ThreadLocal.withInitial(() -> new FieldScanner(SUBJECT_INFO_REGEX));
+    //@@author ParthGandhiNUS
+
+    public static InputSource in = InputSource.getStandardInput();
+    //@@author alalal47
+    private static long loadedStudents = 0;
+    private static long loadNanos = 0;
+
+    /**
+     * Returns the number of students loaded from data files since the program started.
+     *
+     * @return Number of students loaded
+     */
+    public static long getLoadedStudentCount() {
+        return loadedStudents;
+    }
 
-    public static Scanner in = new Scanner(System.in);
+    /**
+     * Returns the total time spent loading data files since the program started.
+     *
+     * @return Time spent loading, in nanoseconds
+     */
+    public static long getLoadNanos() {
+        return loadNanos;
+    }
+    //@@author ParthGandhiNUS
 
     /**
      * Method restores the previous student list by accessing the
@@ -54,97 +83,209 @@ public class DataReader {
      * @param masterStudentList The list of all students
      */
     public static void restoreStudentList(String studentFileInput, ArrayList <Student> masterStudentList ) {
+        Student student = parseStudentRecord(studentFileInput, true);
 
-        if (studentFileInput.trim().isBlank()) {
+        if (student == null) {
             return;
         }
-        String[] inputArr = studentFileInput.split(MAIN_REGEX);
+        masterStudentList.add(student);
+        logger.log(Level.INFO, student.getName() + " added successfully.");
+    }
+
+    /**
+     * Builds a Student from a single line in the format of Student_Information.txt.
+     * Duplicate name and number checks against the master and archive lists are only done
+     * when isCheckingDuplicates is true, as journal replay is allowed to overwrite existing students.
+     *
+     * @param studentFileInput     Line of text in the Student_Information.txt format
+     * @param isCheckingDuplicates True if the student should be rejected when already found in a list
+     * @return The parsed Student, or null if the line is blank or the entry was skipped
+     */
+    static Student parseStudentRecord(String studentFileInput, boolean isCheckingDuplicates) {
+
+        if (studentFileInput.trim().isBlank()) {
+            return null;
+        }
+        FieldScanner fields = fieldScanner.get().reset(studentFileInput);
 
         //Set Name
-        Student student = new Student(AddStudent.splitName(inputArr[NAME].trim()));
+        Student student = new Student(AddStudent.splitName(fields.getString(NAME)));
         //Set Gender
-        student.getAttributes().setGender(inputArr[GENDER].trim());
+        student.getAttributes().setGender(fields.getString(GENDER));
         //Set remarks
-        student.getAttributes().setRemarks(inputArr[REMARKS].trim());
+        student.getAttributes().setRemarks(fields.getString(REMARKS));
         //Set Phone Number
         try {
-            int phoneNumber = Integer.parseInt(inputArr[PHONE_NUMBER].trim());
+            int phoneNumber = fields.getInt(PHONE_NUMBER);
 
             if (!InputParsing.isValidNumber(phoneNumber)) {
                 UI.println("Invalid phone number found in save file.");
                 UI.println("Skipping entry: " + student.getName());
-                return;
+                return null;
             } 
 
-            requiredDataChecks(student, phoneNumber);
+            requiredDataChecks(student, phoneNumber, isCheckingDuplicates);
             student.getAttributes().setPhoneNumber(phoneNumber);
 
         } catch (NumberFormatException e) {
             DataUI.phoneNumberParsingError();
-            return;
+            return null;
         } catch (NameNumberMatchException e) {
             DataUI.nameNumberPair();
-            return;
+            return null;
         } catch (InvalidCharacterException e) {
             DataUI.invalidCharacterExceptionMessage();
-            return;
+            return null;
         }
         //Set Last Payment Date
         try {
-            LocalDate inputLastPaymentDate = convertStringToLocalDate(inputArr[LAST_PAYMENT_DATE].trim());
+            LocalDate inputLastPaymentDate = fields.getDate(LAST_PAYMENT_DATE);
             student.getAttributes().setLastPaymentDate(inputLastPaymentDate);
         } catch (DateTimeParseException e) {
             DataUI.lastPaymentDateParseExceptionMessage();
         }
         //Get all Subject Info
         try {
-            addDifferentSubjectData(inputArr, student);
+            addDifferentSubjectData(fields, student);
         } catch (ArrayIndexOutOfBoundsException e) {
             UI.println(ARRAY_INDEX_MESSAGE);
         } catch (InvalidCharacterException e) {
             UI.println(INVALID_CHAR_MESSAGE);
         }
-        masterStudentList.add(student);
-        logger.log(Level.INFO, student.getName() + " added successfully.");
+        return student;
     }
 
+    //@@author alalal47
+    /**
+     * Builds a Student from a single line in the format of Student_Information.txt without printing anything.
+     * Returns null instead whenever parseStudentRecord would print a warning or skip part of the line,
+     * so that the line can be parsed again with the full checks. Duplicate name and number pairs are not
+     * checked, and a student without subjects is returned as is.
+     *
+     * @param studentFileInput Line of text in the Student_Information.txt format
+     * @return The parsed Student, or null if the line needs the full checks
+     */
+    static Student parseCleanRecord(String studentFileInput) {
+        FieldScanner fields = fieldScanner.get().reset(studentFileInput);
+        if (fields.getFieldCount() <= SUBJECTS) {
+            return null;
+        }
+
+        try {
+            Student student = new Student(AddStudent.splitName(fields.getString(NAME)));
+            student.getAttributes().setGender(fields.getString(GENDER));
+            student.getAttributes().setRemarks(fields.getString(REMARKS));
+            InputParsing.checkForSpecialCharacters(student.getName());
+            InputParsing.checkForSpecialCharacters(student.getGender());
+            InputParsing.checkForSpecialCharacters(student.getAttributes().getRemarks());
+
+            int phoneNumber = fields.getInt(PHONE_NUMBER);
+            if (!InputParsing.isValidNumber(phoneNumber)) {
+                return null;
+            }
+            student.getAttributes().setPhoneNumber(phoneNumber);
+            student.getAttributes().setLastPaymentDate(fields.getDate(LAST_PAYMENT_DATE));
+
+            FieldScanner subjects = scanSubjects(fields);
+            if (hasNoSubjects(subjects)) {
+                return student;
+            }
+            for (int i = 0; i < subjects.getFieldCount(); i++) {
+                student.getAttributes().addSubjectGrade(getAllSubjectInformation(subjects, i));
+            }
+            return student;
+        } catch (InvalidCharacterException | NumberFormatException | DateTimeParseException
+                 | ArrayIndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    //@@author ParthGandhiNUS
     /**
      * This function does the necessary checks for all the students in the StudentInformation.txt file.
      * It throws exceptions if any of the checks are violated
      *
      * @param student Refers to the student which is to be added to the masterStudentList
      * @param phoneNumber Refers to the phone number stored in text file for this particular student.
+     * @param isCheckingDuplicates True if the master and archive lists should be checked for the same pair.
      * @throws InvalidCharacterException Thrown when an invalid character is used.
      * @throws NameNumberMatchException Thrown when there are matching phone numbers in archive or master list.
      */
-    private static void requiredDataChecks(Student student, int phoneNumber) throws InvalidCharacterException,
-            NameNumberMatchException {
+    private static void requiredDataChecks(Student student, int phoneNumber, boolean isCheckingDuplicates)
+            throws InvalidCharacterException, NameNumberMatchException {
         InputParsing.checkForSpecialCharacters(student.getName());
         InputParsing.checkForSpecialCharacters(student.getGender());
         InputParsing.checkForSpecialCharacters(student.getAttributes().getRemarks());
+        if (!isCheckingDuplicates) {
+            return;
+        }
         StudentList.checkNameNumberPair(StudentList.masterStudentList, student.getName(), phoneNumber);
         StudentList.checkNameNumberPair(StudentList.archiveList, student.getName(), phoneNumber);
     }
 
+    //@@author alalal47
+    /**
+     * Checks a student read from a data file in a format other than text, in the same way as
+     * parseStudentRecord, and prints the same message if the student is skipped.
+     * Duplicate name and number pairs are left to StudentFileLoader.addIfNew.
+     *
+     * @param student Student read from the data file.
+     * @return True if the student should be loaded, false if it was skipped.
+     */
+    static boolean isValidStoredStudent(Student student) {
+        if (!InputParsing.isValidNumber(student.getPhoneNumber())) {
+            UI.println("Invalid phone number found in save file.");
+            UI.println("Skipping entry: " + student.getName());
+            return false;
+        }
+        try {
+            requiredDataChecks(student, student.getPhoneNumber(), false);
+        } catch (InvalidCharacterException e) {
+            DataUI.invalidCharacterExceptionMessage();
+            return false;
+        } catch (NameNumberMatchException e) {
+            throw new AssertionError("Duplicates are not checked here", e);
+        }
+        return true;
+    }
+
+    /**
+     * Checks the name of a subject read from a data file in a format other than text, in the same way as
+     * getAllSubjectInformation, and prints the same message if the subject is skipped.
+     *
+     * @param subjectName Name of the subject.
+     * @return True if the subject should be loaded, false if it was skipped.
+     */
+    static boolean isValidStoredSubject(String subjectName) {
+        try {
+            InputParsing.checkForSpecialCharacters(subjectName);
+            return true;
+        } catch (InvalidCharacterException e) {
+            UI.println(INVALID_CHAR_MESSAGE);
+            return false;
+        }
+    }
+
+    //@@author ParthGandhiNUS
     /**
      * Parses the data for the different subjects a student is taking and calls getAllSubjectInformation method
      *
-     * @param inputArr Refers to the array containing data about the Students' Subjects
+     * @param fields Refers to the fields of the line containing data about the Students' Subjects
      * @param student Refers to the student which is to be added to the masterStudentList
      * @throws InvalidCharacterException Thrown when an invalid character is used.
      */
-    private static void addDifferentSubjectData(String[] inputArr, Student student) throws InvalidCharacterException {
-        String [] allSubjects = (inputArr[SUBJECTS].trim()).split(SUBJECT_REGEX);
-        int numberOfSubjects = allSubjects.length;
+    private static void addDifferentSubjectData(FieldScanner fields, Student student)
+            throws InvalidCharacterException {
+        FieldScanner subjects = scanSubjects(fields);
 
-        if (numberOfSubjects == 1 && allSubjects[0].isEmpty()) {
+        if (hasNoSubjects(subjects)) {
             DataUI.noSubjectMessage();
             return;
         }
 
-        for (String allSubject : allSubjects) {
+        for (int i = 0; i < subjects.getFieldCount(); i++) {
             try {
-                SubjectGrade newSubject = getAllSubjectInformation(allSubject);
+                SubjectGrade newSubject = getAllSubjectInformation(subjects, i);
                 student.getAttributes().addSubjectGrade(newSubject);
             } catch (InvalidCharacterException e) {
                 UI.println(INVALID_CHAR_MESSAGE);
@@ -154,6 +295,17 @@ public class DataReader {
         }
     }
 
+    //@@author alalal47
+    private static FieldScanner scanSubjects(FieldScanner fields) {
+        return subjectScanner.get().resetTrimmed(fields.getText(), fields.getFieldStart(SUBJECTS),
+                fields.getFieldEnd(SUBJECTS));
+    }
+
+    private static boolean hasNoSubjects(FieldScanner subjects) {
+        return subjects.getFieldCount() == 1 && subjects.isBlank(0);
+    }
+
+    //@@author ParthGandhiNUS
     /**
      * Takes in the string containing all the info regarding a students' subject
      *
@@ -163,15 +315,26 @@ public class DataReader {
      */
     static SubjectGrade getAllSubjectInformation(String allSubjects) throws InvalidCharacterException,
             NumberFormatException {
-        String [] subjectDetailedInfo = allSubjects.split(SUBJECT_INFO_REGEX);
+        return getAllSubjectInformation(subjectInfoScanner.get().reset(allSubjects));
+    }
+
+    //@@author alalal47
+    private static SubjectGrade getAllSubjectInformation(FieldScanner subjects, int subject)
+            throws InvalidCharacterException, NumberFormatException {
+        return getAllSubjectInformation(subjectInfoScanner.get().reset(subjects.getText(),
+                subjects.getFieldStart(subject), subjects.getFieldEnd(subject)));
+    }
+
+    //@@author ParthGandhiNUS
+    private static SubjectGrade getAllSubjectInformation(FieldScanner subjectDetailedInfo)
+            throws InvalidCharacterException, NumberFormatException {
         //Subject Name
-        String subjectName = subjectDetailedInfo[SUBJECT_NAME].trim();
+        String subjectName = subjectDetailedInfo.getString(SUBJECT_NAME);
         InputParsing.checkForSpecialCharacters(subjectName);
         //Subject Grade
-        double subjectGrades = Double.parseDouble(subjectDetailedInfo[GRADE_FOR_SUBJECT].trim());
+        double subjectGrades = subjectDetailedInfo.getDouble(GRADE_FOR_SUBJECT);
         //Classes attended for this subject
-        int subjectClassesAttended = Integer.parseInt(subjectDetailedInfo[NUMBER_OF_CLASSES_ATTENDED]
-                .trim());
+        int subjectClassesAttended = subjectDetailedInfo.getInt(NUMBER_OF_CLASSES_ATTENDED);
 
         //Add Subject and attributes to the student
         return new SubjectGrade(subjectName, subjectGrades, subjectClassesAttended);
@@ -185,9 +348,7 @@ public class DataReader {
      * @throws DateTimeParseException if there is some error experienced when trying to convert to LocalDate format
      */
     public static LocalDate convertStringToLocalDate(String input) throws DateTimeParseException {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-        return LocalDate.parse(input,formatter);
+        return LocalDate.parse(input, DATE_FORMATTER);
     }
   
     //@@author blackmirag3
@@ -202,37 +363,62 @@ public class DataReader {
      */
     public static void initialiseData(ArrayList<Student> list,
                                       String filePath) throws IOException {
+        initialiseData(list, filePath, null);
+    }
+
+    /**
+     * Initialises student array list from specified data file, then replays the changes recorded in the
+     * journal of the data file since it was last written in full.
+     *
+     * @param list ArrayList containing Students
+     * @param filePath String containing path to data file
+     * @param journal Journal of the data file, or null if there is none
+     * @throws IOException Thrown when there is error reading the data file.
+     */
+    public static void initialiseData(ArrayList<Student> list, String filePath,
+                                      DataJournal journal) throws IOException {
+        boolean isCorrupted = false;
+        //@@author alalal47
+        long loadStart = System.nanoTime();
+        int loadedBefore = list.size();
+        //@@author ParthGandhiNUS
 
         Path directory = Paths.get(filePath);
         if (!Files.exists(directory)) {
             DataUI.printCreatingFile();
             Files.createFile(directory);
         } else {
-            FileReader fileReader = new FileReader(filePath);
-            BufferedReader line = new BufferedReader(fileReader);
             DataUI.printRetrieveData();
 
-            //@@author ParthGandhiNUS
+            //@@author alalal47
             try {
-                while (line.ready()) {
-                    restoreStudentList(line.readLine(), list);
+                if (BinarySnapshot.isBinarySnapshot(directory)) {
+                    BinarySnapshot.load(directory, list);
+                } else {
+                    StudentFileLoader.load(directory, list);
                 }
-                line.close();
-            //@@author alalal47
             } catch (ArrayIndexOutOfBoundsException e) {
                 DataUI.printFileCorruptedMessage();
                 DataUI.printDataDeletionPromptMessage();
                 promptDataDeletion();
                 UI.printDivider();
                 StudentList.masterStudentList.clear();
+                isCorrupted = true;
             } catch (IOException e) {
                 DataUI.printFileCorruptedMessage();
                 DataUI.printDataDeletionPromptMessage();
                 promptDataDeletion();
                 UI.printDivider();
                 StudentList.masterStudentList.clear();
+                isCorrupted = true;
             }
         }
+        //@@author alalal47
+        if (journal != null && !isCorrupted) {
+            journal.replay(list);
+        }
+        loadedStudents += Math.max(list.size() - loadedBefore, 0);
+        loadNanos += System.nanoTime() - loadStart;
         //@@author ParthGandhiNUS
         DataUI.printLoadSuccess();
         UI.printDivider();
@@ -3,19 +3,37 @@ package classify.data;
 import classify.student.Student;
 import classify.ui.DataUI;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 
 //@@author ParthGandhiNUS
 public class DataWriter {
     private static final String NEWLINE = "\n";
+    //@@author alalal47
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 256 * 1024;
+    /** Counters of every write to a data or journal file, updated by the writer thread. */
+    private static final AtomicLong saveCount = new AtomicLong();
+    private static final AtomicLong savedBytes = new AtomicLong();
+    private static final AtomicLong saveNanos = new AtomicLong();
+
+    //@@author ParthGandhiNUS
     
     /**
      * Accesses the parent directory to try to make the parent directory.
@@ -24,21 +42,195 @@ public class DataWriter {
      * @param list list ArrayList containing the current students
      */
     public static void writeStudentInfoFile(List <Student> list, String folderPath, String filePath) {
-        List<String> lines = new ArrayList<>();
+        writeLinesToFile(toLines(list), folderPath, filePath);
+    }
+
+    /**
+     * Converts every student in the list into the line used to store it in Student_Information.txt
+     *
+     * @param list List of students to convert
+     * @return List of lines in the same order as the students
+     */
+    public static List<String> toLines(List <Student> list) {
+        List<String> lines = new ArrayList<>(list.size());
 
         for (Student student:list) {
             lines.add(student.textFileInputString());
         }
+        return lines;
+    }
+
+    /**
+     * Overwrites the file with the given lines, creating the parent folder if needed.
+     * The lines are encoded straight into a large buffer and written to a temporary file, which is forced
+     * to disk and then moved over the old file. Anything reading the file during a save sees either the old
+     * or the new contents in full, and a crash part way through leaves the old file untouched.
+     *
+     * @param lines      Lines to write to the file
+     * @param folderPath Path of the folder containing the file
+     * @param filePath   Path of the file to write to
+     * @return True if every line was written, false otherwise
+     */
+    public static boolean writeLinesToFile(List<String> lines, String folderPath, String filePath) {
+        return writeAtomically(folderPath, filePath, channel -> writeLines(lines, channel));
+    }
+
+    /**
+     * Overwrites the file with the given bytes in the same way as writeLinesToFile.
+     *
+     * @param bytes      Contents of the file
+     * @param folderPath Path of the folder containing the file
+     * @param filePath   Path of the file to write to
+     * @return True if every byte was written, false otherwise
+     */
+    public static boolean writeBytesToFile(byte[] bytes, String folderPath, String filePath) {
+        return writeAtomically(folderPath, filePath, channel -> drain(ByteBuffer.wrap(bytes), channel));
+    }
+
+    /**
+     * Counts a completed write of a data or journal file.
+     *
+     * @param bytes    Number of bytes written
+     * @param duration Time taken by the write, in nanoseconds
+     */
+    static void recordSave(long bytes, long duration) {
+        saveCount.incrementAndGet();
+        savedBytes.addAndGet(bytes);
+        saveNanos.addAndGet(duration);
+    }
+
+    /**
+     * Returns the number of times a data or journal file was written since the program started.
+     *
+     * @return Number of completed writes
+     */
+    public static long getSaveCount() {
+        return saveCount.get();
+    }
+
+    /**
+     * Returns the number of bytes written to data and journal files since the program started.
+     *
+     * @return Number of bytes written
+     */
+    public static long getSavedBytes() {
+        return savedBytes.get();
+    }
+
+    /**
+     * Returns the total time spent writing data and journal files since the program started.
+     *
+     * @return Time spent writing, in nanoseconds
+     */
+    public static long getSaveNanos() {
+        return saveNanos.get();
+    }
+
+    /**
+     * Writes the contents of a file to a channel.
+     */
+    private interface FileContents {
+        void writeTo(FileChannel channel) throws IOException;
+    }
+
+    private static boolean writeAtomically(String folderPath, String filePath, FileContents contents) {
+        createParentFileFolder(folderPath);
+        Path target = Paths.get(filePath);
+        Path temporaryFile = Paths.get(filePath + TEMPORARY_FILE_SUFFIX);
+        long start = System.nanoTime();
 
         try {
-            createParentFileFolder(folderPath);
-            FileWriter studentInfoWriter = new FileWriter(filePath);
-            for (String line : lines) {
-                studentInfoWriter.write(line + NEWLINE);
+            long bytes;
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                contents.writeTo(channel);
+                channel.force(true);
+                bytes = channel.size();
             }
-            studentInfoWriter.close();
+            moveAtomically(temporaryFile, target);
+            recordSave(bytes, System.nanoTime() - start);
+            return true;
         } catch (IOException e) {
             DataUI.printFileIOError();
+            try {
+                Files.deleteIfExists(temporaryFile);
+            } catch (IOException ignored) {
+                //The temporary file is overwritten on the next save anyway
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Encodes every line, each followed by a newline, into a single reusable buffer,
+     * only writing to the channel when the buffer is full.
+     *
+     * @param lines   Lines to write
+     * @param channel Channel to write the encoded lines to
+     * @throws IOException Thrown when the channel could not be written to
+     */
+    private static void writeLines(List<String> lines, FileChannel channel) throws IOException {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        CharBuffer newline = CharBuffer.wrap(NEWLINE);
+
+        for (String line : lines) {
+            encode(CharBuffer.wrap(line), encoder, buffer, channel, false);
+            encode(newline.rewind(), encoder, buffer, channel, false);
+        }
+        encode(CharBuffer.allocate(0), encoder, buffer, channel, true);
+        while (encoder.flush(buffer).isOverflow()) {
+            drainBuffer(buffer, channel);
+        }
+        drainBuffer(buffer, channel);
+    }
+
+    private static void encode(CharBuffer input, CharsetEncoder encoder, ByteBuffer buffer,
+                               FileChannel channel, boolean isEndOfInput) throws IOException {
+        while (true) {
+            CoderResult result = encoder.encode(input, buffer, isEndOfInput);
+            if (result.isOverflow()) {
+                drainBuffer(buffer, channel);
+            } else if (result.isError()) {
+                result.throwException();
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void drainBuffer(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        drain(buffer, channel);
+        buffer.clear();
+    }
+
+    private static void drain(ByteBuffer buffer, FileChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Replaces the target with the source file in a single step where the file system allows it,
+     * then forces the directory entry to disk on systems which support it.
+     *
+     * @param source File to move
+     * @param target File to replace
+     * @throws IOException Thrown when the file could not be moved
+     */
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        Path directory = target.toAbsolutePath().getParent();
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException ignored) {
+            //Not every operating system allows a directory to be opened, the move itself has still succeeded
         }
     }
 
@@ -64,13 +256,8 @@ public class DataWriter {
      * Only used in the case of corruption that cannot be resolved by the user.
      */
     public static void emptyDataFile(String folderPath, String filePath) {
-        try {
-            createParentFileFolder(folderPath);
-            FileWriter overwriteBlank = new FileWriter(filePath);
-            overwriteBlank.write("");
+        if (writeLinesToFile(new ArrayList<>(), folderPath, filePath)) {
             DataUI.printFileDeletionCompleteMessage();
-        } catch (IOException e) {
-            DataUI.printFileIOError();
         }
     }
 }
@@ -0,0 +1,244 @@
+package classify.data;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+
+//@@author alalal47
+/**
+ * Splits a line of text on a fixed separator such as "~~" in a single pass, without regular expressions.
+ * Only the positions of the fields are recorded, and fields are trimmed and parsed straight from the text,
+ * so a String is only created for fields which are kept as text.
+ * Fields are counted the same way as String.split, so trailing empty fields are dropped and asking for a
+ * field past the last one throws an ArrayIndexOutOfBoundsException.
+ * A scanner can be reset and reused for any number of lines, but is not thread safe.
+ */
+public final class FieldScanner {
+    private static final int INITIAL_FIELDS = 8;
+    private static final int DATE_LENGTH = 10;
+    private static final int MONTH_START = 5;
+    private static final int DAY_START = 8;
+
+    private final String separator;
+    private CharSequence text;
+    private int[] fieldStarts = new int[INITIAL_FIELDS];
+    private int[] fieldEnds = new int[INITIAL_FIELDS];
+    private int fieldCount;
+
+    public FieldScanner(String separator) {
+        assert !separator.isEmpty() : "Separator should not be empty";
+        this.separator = separator;
+    }
+
+    /**
+     * Splits the whole of the text into fields.
+     *
+     * @param text Text to split
+     * @return This scanner
+     */
+    public FieldScanner reset(CharSequence text) {
+        return reset(text, 0, text.length());
+    }
+
+    /**
+     * Splits the text between start and end into fields.
+     *
+     * @param text  Text to split
+     * @param start Index of the first character to split
+     * @param end   Index just past the last character to split
+     * @return This scanner
+     */
+    public FieldScanner reset(CharSequence text, int start, int end) {
+        this.text = text;
+        fieldCount = 0;
+
+        int fieldStart = start;
+        int index = indexOfSeparator(fieldStart, end);
+        while (index >= 0) {
+            addField(fieldStart, index);
+            fieldStart = index + separator.length();
+            index = indexOfSeparator(fieldStart, end);
+        }
+        if (fieldCount == 0) {
+            addField(start, end);
+            return this;
+        }
+        addField(fieldStart, end);
+
+        while (fieldCount > 0 && fieldStarts[fieldCount - 1] == fieldEnds[fieldCount - 1]) {
+            fieldCount--;
+        }
+        return this;
+    }
+
+    /**
+     * Splits the text between start and end into fields, after removing leading and trailing whitespace.
+     *
+     * @param text  Text to split
+     * @param start Index of the first character to split
+     * @param end   Index just past the last character to split
+     * @return This scanner
+     */
+    public FieldScanner resetTrimmed(CharSequence text, int start, int end) {
+        int trimmedStart = trimStart(text, start, end);
+        return reset(text, trimmedStart, trimEnd(text, trimmedStart, end));
+    }
+
+    private int indexOfSeparator(int from, int end) {
+        char first = separator.charAt(0);
+        int lastStart = end - separator.length();
+        for (int i = from; i <= lastStart; i++) {
+            if (text.charAt(i) != first) {
+                continue;
+            }
+            int matched = 1;
+            while (matched < separator.length() && text.charAt(i + matched) == separator.charAt(matched)) {
+                matched++;
+            }
+            if (matched == separator.length()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == fieldStarts.length) {
+            fieldStarts = Arrays.copyOf(fieldStarts, fieldCount * 2);
+            fieldEnds = Arrays.copyOf(fieldEnds, fieldCount * 2);
+        }
+        fieldStarts[fieldCount] = start;
+        fieldEnds[fieldCount] = end;
+        fieldCount++;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    public CharSequence getText() {
+        return text;
+    }
+
+    /**
+     * Returns the index of the first character of the field, before trimming.
+     */
+    public int getFieldStart(int field) {
+        checkField(field);
+        return fieldStarts[field];
+    }
+
+    /**
+     * Returns the index just past the last character of the field, before trimming.
+     */
+    public int getFieldEnd(int field) {
+        checkField(field);
+        return fieldEnds[field];
+    }
+
+    /**
+     * Returns true if the field is empty or only contains whitespace.
+     */
+    public boolean isBlank(int field) {
+        return trimStart(field) == trimEnd(field);
+    }
+
+    /**
+     * Returns the field with leading and trailing whitespace removed.
+     *
+     * @param field Index of the field
+     * @return The trimmed field
+     */
+    public String getString(int field) {
+        return text.subSequence(trimStart(field), trimEnd(field)).toString();
+    }
+
+    /**
+     * Parses the trimmed field as an int, in the same way as Integer.parseInt.
+     *
+     * @param field Index of the field
+     * @return The parsed number
+     * @throws NumberFormatException Thrown when the field is not a valid int
+     */
+    public int getInt(int field) throws NumberFormatException {
+        return Integer.parseInt(text, trimStart(field), trimEnd(field), 10);
+    }
+
+    /**
+     * Parses the trimmed field as a double, in the same way as Double.parseDouble.
+     *
+     * @param field Index of the field
+     * @return The parsed number
+     * @throws NumberFormatException Thrown when the field is not a valid double
+     */
+    public double getDouble(int field) throws NumberFormatException {
+        return Double.parseDouble(getString(field));
+    }
+
+    /**
+     * Parses the trimmed field as a date in the yyyy-MM-dd format.
+     * Dates in the usual form are read straight from the text, anything else is left to
+     * DataReader.convertStringToLocalDate so that the same dates are accepted and rejected.
+     *
+     * @param field Index of the field
+     * @return The parsed date
+     * @throws DateTimeParseException Thrown when the field is not a valid date
+     */
+    public LocalDate getDate(int field) throws DateTimeParseException {
+        int start = trimStart(field);
+        if (trimEnd(field) - start == DATE_LENGTH && text.charAt(start + MONTH_START - 1) == '-'
+                && text.charAt(start + DAY_START - 1) == '-') {
+            int year = parseDigits(start, start + MONTH_START - 1);
+            int month = parseDigits(start + MONTH_START, start + DAY_START - 1);
+            int day = parseDigits(start + DAY_START, start + DATE_LENGTH);
+            if (year >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= 31) {
+                return LocalDate.of(year, month, Math.min(day, YearMonth.of(year, month).lengthOfMonth()));
+            }
+        }
+        return DataReader.convertStringToLocalDate(getString(field));
+    }
+
+    /**
+     * Returns the value of the ASCII digits between start and end, or -1 if there are any other characters.
+     */
+    private int parseDigits(int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char digit = text.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return -1;
+            }
+            value = value * 10 + (digit - '0');
+        }
+        return value;
+    }
+
+    private void checkField(int field) {
+        if (field < 0 || field >= fieldCount) {
+            throw new ArrayIndexOutOfBoundsException(field);
+        }
+    }
+
+    private int trimStart(int field) {
+        return trimStart(text, getFieldStart(field), fieldEnds[field]);
+    }
+
+    private int trimEnd(int field) {
+        return trimEnd(text, trimStart(field), fieldEnds[field]);
+    }
+
+    private static int trimStart(CharSequence text, int start, int end) {
+        while (start < end && text.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    private static int trimEnd(CharSequence text, int start, int end) {
+        while (end > start && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+}
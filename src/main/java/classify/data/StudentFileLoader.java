@@ -0,0 +1,171 @@
+package classify.data;
+
+import classify.student.Student;
+import classify.student.StudentList;
+import classify.ui.DataUI;
+import classify.user.NameNumberMatchException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+//@@author alalal47
+/**
+ * Loads a student data file by reading it in one go, splitting it into line-aligned chunks and
+ * parsing the chunks in parallel on the common fork-join pool.
+ * Parsed students are merged into the list in file order, and duplicate name and number pairs are found
+ * in a single pass during the merge.
+ * Lines which would print a warning when parsed are left to DataReader during the merge, so the messages
+ * shown and the students kept are the same as when the file is read line by line.
+ */
+final class StudentFileLoader {
+    private static final int CHUNK_SIZE = 256 * 1024;
+    private static final byte NEWLINE = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final Logger logger = Logger.getLogger(StudentFileLoader.class.getName());
+
+    private StudentFileLoader() {
+    }
+
+    /**
+     * A single non-blank line of the data file, together with the student parsed from it.
+     * The student is null when the line has to go through the full checks in DataReader.
+     */
+    private static class ParsedLine {
+        private final String line;
+        private final Student student;
+
+        private ParsedLine(String line, Student student) {
+            this.line = line;
+            this.student = student;
+        }
+    }
+
+    /**
+     * Adds every student in the data file to the list, in the order they appear in the file.
+     *
+     * @param filePath Path of the data file
+     * @param list     List to add the students to
+     * @throws IOException Thrown when the data file could not be read
+     */
+    static void load(Path filePath, ArrayList<Student> list) throws IOException {
+        byte[] bytes = Files.readAllBytes(filePath);
+        List<ParsedLine> parsedLines = parse(bytes);
+
+        list.ensureCapacity(list.size() + parsedLines.size());
+        int sizeBefore = list.size();
+        for (ParsedLine parsedLine : parsedLines) {
+            merge(parsedLine, list);
+        }
+        logger.log(Level.INFO, (list.size() - sizeBefore) + " students loaded from " + filePath);
+    }
+
+    private static List<ParsedLine> parse(byte[] bytes) throws IOException {
+        if (bytes.length <= CHUNK_SIZE) {
+            return parseChunk(bytes, 0, bytes.length);
+        }
+
+        List<Callable<List<ParsedLine>>> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < bytes.length) {
+            int end = findLineEnd(bytes, Math.min(start + CHUNK_SIZE, bytes.length));
+            int chunkStart = start;
+            chunks.add(() -> parseChunk(bytes, chunkStart, end));
+            start = end;
+        }
+
+        List<ParsedLine> parsedLines = new ArrayList<>();
+        try {
+            for (Future<List<ParsedLine>> chunk : ForkJoinPool.commonPool().invokeAll(chunks)) {
+                parsedLines.addAll(chunk.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        return parsedLines;
+    }
+
+    /**
+     * Returns the index just past the end of the line containing the given index,
+     * so that chunks never start or end in the middle of a line.
+     */
+    private static int findLineEnd(byte[] bytes, int index) {
+        while (index < bytes.length && bytes[index - 1] != NEWLINE) {
+            index++;
+        }
+        return index;
+    }
+
+    private static List<ParsedLine> parseChunk(byte[] bytes, int start, int end) {
+        String chunk = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        List<ParsedLine> parsedLines = new ArrayList<>();
+
+        int lineStart = 0;
+        while (lineStart < chunk.length()) {
+            int lineEnd = chunk.indexOf(NEWLINE, lineStart);
+            if (lineEnd < 0) {
+                lineEnd = chunk.length();
+            }
+            int contentEnd = lineEnd;
+            if (contentEnd > lineStart && chunk.charAt(contentEnd - 1) == CARRIAGE_RETURN) {
+                contentEnd--;
+            }
+            String line = chunk.substring(lineStart, contentEnd);
+            if (!line.isBlank()) {
+                parsedLines.add(new ParsedLine(line, parseQuietly(line)));
+            }
+            lineStart = lineEnd + 1;
+        }
+        return parsedLines;
+    }
+
+    private static Student parseQuietly(String line) {
+        try {
+            return DataReader.parseCleanRecord(line);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void merge(ParsedLine parsedLine, ArrayList<Student> list) {
+        if (parsedLine.student == null) {
+            DataReader.restoreStudentList(parsedLine.line, list);
+        } else {
+            addIfNew(parsedLine.student, list);
+        }
+    }
+
+    /**
+     * Adds a student which was loaded from a data file to the list, unless a student with the same name
+     * and phone number is already in the master or archive list.
+     *
+     * @param student Student to add
+     * @param list    List to add the student to
+     */
+    static void addIfNew(Student student, ArrayList<Student> list) {
+        try {
+            StudentList.checkNameNumberPair(StudentList.masterStudentList, student.getName(),
+                    student.getPhoneNumber());
+            StudentList.checkNameNumberPair(StudentList.archiveList, student.getName(), student.getPhoneNumber());
+        } catch (NameNumberMatchException e) {
+            DataUI.nameNumberPair();
+            return;
+        }
+        if (student.getAttributes().getSubjectGrades().isEmpty()) {
+            DataUI.noSubjectMessage();
+        }
+        list.add(student);
+    }
+}
@@ -36,20 +36,33 @@ public abstract class Details {
 
     public void setGender(String gender) {
         this.gender = gender;
+        markChanged();
     }
 
     public void setPhoneNumber(int phoneNumber) {
         this.phoneNumber = phoneNumber;
+        markChanged();
     }
 
     public void setLastPaymentDate(LocalDate lastPaymentDate) {
         this.lastPaymentDate = lastPaymentDate;
+        markChanged();
     }
 
     public void setRemarks(String remarks) {
         this.remarks = remarks;
+        markChanged();
     }
 
+    //@@author alalal47
+    /**
+     * Called after any of the details is changed.
+     */
+    protected void markChanged() {
+
+    }
+
+    //@@author Cryolian
     public static Details getDetails() {
         return StudentAttributes.getDetails();
     }
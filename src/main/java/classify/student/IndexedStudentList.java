@@ -0,0 +1,339 @@
+package classify.student;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+//@@author alalal47
+/**
+ * ArrayList of students which keeps a case-folded index of every name and phone number pair it contains.
+ * The index is updated by every method that adds or removes students, so existing code can keep using
+ * the list as a normal ArrayList while duplicate checks take constant time.
+ * The list listens for changes to the students it contains, and is marked dirty whenever a student is
+ * added, removed, reordered or changed.
+ * It also keeps the secondary indexes in StudentIndexes up to date, so students can be found by subject,
+ * last payment date or total classes attended without scanning or sorting the list. Students are found by
+ * name through StudentNameIndex and by phone number through PhoneNumberIndex.
+ */
+public class IndexedStudentList extends ArrayList<Student> implements StudentChangeListener {
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final Map<String, Integer> nameNumberCounts = new HashMap<>();
+    private final Map<Student, String> indexedKeys = new IdentityHashMap<>();
+    private final StudentIndexes indexes = new StudentIndexes();
+    private final StudentNameIndex names = new StudentNameIndex();
+    private final PhoneNumberIndex phoneNumbers = new PhoneNumberIndex();
+    private boolean isDirty = false;
+    private final Map<StudentOrder<?>, SortedView> sortedViews = new HashMap<>();
+    private Map<Student, Integer> rows;
+
+    public IndexedStudentList() {
+        super();
+    }
+
+    /**
+     * Builds the key used to index a student, ignoring the case of the name.
+     *
+     * @param name        Name of the student
+     * @param phoneNumber Phone number of the student
+     * @return Key which is equal for names differing only by case
+     */
+    public static String toNameNumberKey(String name, int phoneNumber) {
+        return name.trim().toLowerCase(Locale.ROOT) + KEY_SEPARATOR + phoneNumber;
+    }
+
+    /**
+     * Returns true if a student with the same name, ignoring case, and phone number is in the list.
+     *
+     * @param name        Name of the student to find
+     * @param phoneNumber Phone number of the student to find
+     * @return True if a matching student is in the list
+     */
+    public boolean containsNameNumber(String name, int phoneNumber) {
+        return nameNumberCounts.containsKey(toNameNumberKey(name, phoneNumber));
+    }
+
+    /**
+     * Returns the secondary indexes over the students in the list, which are kept up to date as the list changes.
+     *
+     * @return Indexes of the students in the list
+     */
+    public StudentIndexes getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Returns the index of the names of the students in the list, which is kept up to date as the list changes.
+     *
+     * @return Index of the names of the students in the list
+     */
+    public StudentNameIndex getNameIndex() {
+        return names;
+    }
+
+    /**
+     * Returns the index of the phone numbers of the students in the list, which is kept up to date as the list
+     * changes.
+     *
+     * @return Index of the phone numbers of the students in the list
+     */
+    public PhoneNumberIndex getPhoneNumberIndex() {
+        return phoneNumbers;
+    }
+
+    /**
+     * Returns true if a student was added, removed, reordered or changed since the last call to clearDirty.
+     *
+     * @return True if the list has unsaved changes
+     */
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    private void markDirty() {
+        isDirty = true;
+        sortedViews.clear();
+        rows = null;
+    }
+
+    /**
+     * Returns the students of the list in the given order, without reordering the list.
+     * Orders by total classes and by last payment date are read from the indexes, which are always in order.
+     * Other orders are sorted into a view when first needed, which is reused until a student is added,
+     * removed or moved, or a change to a student alters the key the view is sorted by.
+     * The view is read-only, and is only valid until the list changes.
+     *
+     * @param order Order to list the students in
+     * @return View of the students in the given order
+     */
+    public List<Student> getSortedView(StudentOrder<?> order) {
+        if (order == StudentOrder.BY_TOTAL_CLASSES) {
+            return indexes.getStudentsByTotalClasses();
+        }
+        if (order == StudentOrder.BY_LAST_PAYMENT_DATE) {
+            return indexes.getStudentsByLastPaymentDate();
+        }
+        SortedView view = sortedViews.get(order);
+        if (view == null) {
+            view = order.sortRows(this);
+            sortedViews.put(order, view);
+        }
+        return view;
+    }
+
+    /**
+     * Drops the sorted views which the change to the student has put out of order.
+     */
+    private void dropChangedViews(Student student) {
+        if (sortedViews.isEmpty()) {
+            return;
+        }
+        if (rows == null) {
+            rows = new IdentityHashMap<>();
+            for (int row = 0; row < size(); row++) {
+                rows.putIfAbsent(get(row), row);
+            }
+        }
+        int row = rows.get(student);
+        sortedViews.values().removeIf(view -> !view.isKeyUnchanged(row));
+    }
+
+    /**
+     * Marks every change to the list so far as saved.
+     */
+    public void clearDirty() {
+        isDirty = false;
+    }
+
+    /**
+     * Updates the index after a detail of a student in the list was changed, and marks the list as dirty.
+     *
+     * @param student Student whose details were changed
+     */
+    @Override
+    public void studentChanged(Student student) {
+        String key = indexedKeys.get(student);
+        if (key == null) {
+            return;
+        }
+        String newKey = toNameNumberKey(student.getName(), student.getPhoneNumber());
+        if (!key.equals(newKey)) {
+            decrementKey(key);
+            nameNumberCounts.merge(newKey, 1, Integer::sum);
+            indexedKeys.put(student, newKey);
+        }
+        names.update(student);
+        phoneNumbers.update(student);
+        indexes.update(student);
+        isDirty = true;
+        dropChangedViews(student);
+    }
+
+    private void index(Student student) {
+        String key = toNameNumberKey(student.getName(), student.getPhoneNumber());
+        nameNumberCounts.merge(key, 1, Integer::sum);
+        indexedKeys.put(student, key);
+        names.add(student);
+        phoneNumbers.add(student);
+        student.addChangeListener(this);
+        markDirty();
+    }
+
+    private void unindex(Student student) {
+        String key = indexedKeys.remove(student);
+        if (key == null) {
+            return;
+        }
+        decrementKey(key);
+        indexes.remove(student);
+        names.remove(student);
+        phoneNumbers.remove(student);
+        student.removeChangeListener(this);
+        markDirty();
+    }
+
+    private void decrementKey(String key) {
+        nameNumberCounts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    private void rebuildIndex() {
+        Map<Student, String> previousKeys = new IdentityHashMap<>(indexedKeys);
+        nameNumberCounts.clear();
+        indexedKeys.clear();
+        names.clear();
+        phoneNumbers.clear();
+        for (Student student : this) {
+            index(student);
+        }
+        for (Student student : previousKeys.keySet()) {
+            if (!indexedKeys.containsKey(student)) {
+                student.removeChangeListener(this);
+            }
+        }
+        indexes.rebuild(this);
+        markDirty();
+    }
+
+    @Override
+    public boolean add(Student student) {
+        super.add(student);
+        index(student);
+        indexes.addRange(this, size() - 1, size());
+        return true;
+    }
+
+    @Override
+    public void add(int index, Student student) {
+        super.add(index, student);
+        index(student);
+        indexes.addRange(this, index, index + 1);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Student> students) {
+        int start = size();
+        boolean isChanged = super.addAll(students);
+        for (Student student : students) {
+            index(student);
+        }
+        indexes.addRange(this, start, size());
+        return isChanged;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Student> students) {
+        boolean isChanged = super.addAll(index, students);
+        for (Student student : students) {
+            index(student);
+        }
+        indexes.addRange(this, index, index + students.size());
+        return isChanged;
+    }
+
+    @Override
+    public Student set(int index, Student student) {
+        Student previous = super.set(index, student);
+        unindex(previous);
+        index(student);
+        indexes.addRange(this, index, index + 1);
+        return previous;
+    }
+
+    @Override
+    public Student remove(int index) {
+        Student removed = super.remove(index);
+        unindex(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        int index = indexOf(object);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        for (Student student : indexedKeys.keySet()) {
+            student.removeChangeListener(this);
+        }
+        nameNumberCounts.clear();
+        indexedKeys.clear();
+        names.clear();
+        phoneNumbers.clear();
+        indexes.clear();
+        markDirty();
+    }
+
+    @Override
+    public void sort(Comparator<? super Student> comparator) {
+        super.sort(comparator);
+        indexes.rebuild(this);
+        markDirty();
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        super.removeRange(fromIndex, toIndex);
+        rebuildIndex();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Student> filter) {
+        boolean isChanged = super.removeIf(filter);
+        rebuildIndex();
+        return isChanged;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> students) {
+        boolean isChanged = super.removeAll(students);
+        rebuildIndex();
+        return isChanged;
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> students) {
+        boolean isChanged = super.retainAll(students);
+        rebuildIndex();
+        return isChanged;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<Student> operator) {
+        super.replaceAll(operator);
+        rebuildIndex();
+    }
+}
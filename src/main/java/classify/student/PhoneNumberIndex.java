@@ -0,0 +1,183 @@
+package classify.student;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+//@@author alalal47
+/**
+ * Index of students by phone number, so a student can be found from their number without scanning the list.
+ * The numbers are kept as ints in an open-addressing hash table, with linear probing and no tombstones, so a
+ * lookup neither boxes the number nor follows a chain of entries. Students sharing a number, such as
+ * siblings listed under a parent's number, are kept together in one slot.
+ */
+public final class PhoneNumberIndex {
+    private static final int INITIAL_CAPACITY = 16;
+    /** Multiplier spreading phone numbers, which often share their last digits, over the whole table. */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    private int[] numbers = new int[INITIAL_CAPACITY];
+    /** Student or List of Students with the number in the same slot, or null if the slot is empty. */
+    private Object[] students = new Object[INITIAL_CAPACITY];
+    private int usedSlots = 0;
+    private final Map<Student, Integer> indexedNumbers = new IdentityHashMap<>();
+
+    /**
+     * Returns every student with the phone number.
+     *
+     * @param phoneNumber Phone number to find
+     * @return Students with the phone number, which is empty if there are none
+     */
+    @SuppressWarnings("unchecked")
+    public List<Student> find(int phoneNumber) {
+        List<Student> found = new ArrayList<>(1);
+        Object value = students[findSlot(phoneNumber)];
+        if (value instanceof Student) {
+            found.add((Student) value);
+        } else if (value != null) {
+            found.addAll((List<Student>) value);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of different phone numbers in the index.
+     *
+     * @return Number of different phone numbers
+     */
+    public int size() {
+        return usedSlots;
+    }
+
+    void add(Student student) {
+        if (indexedNumbers.containsKey(student)) {
+            return;
+        }
+        int phoneNumber = student.getPhoneNumber();
+        indexedNumbers.put(student, phoneNumber);
+        int slot = findSlot(phoneNumber);
+        if (students[slot] == null) {
+            numbers[slot] = phoneNumber;
+            students[slot] = student;
+            usedSlots++;
+            if (usedSlots * 2 > numbers.length) {
+                resize(numbers.length * 2);
+            }
+        } else {
+            students[slot] = addStudent(students[slot], student);
+        }
+    }
+
+    void remove(Student student) {
+        Integer phoneNumber = indexedNumbers.remove(student);
+        if (phoneNumber == null) {
+            return;
+        }
+        int slot = findSlot(phoneNumber);
+        Object remaining = removeStudent(students[slot], student);
+        if (remaining == null) {
+            deleteSlot(slot);
+        } else {
+            students[slot] = remaining;
+        }
+    }
+
+    /**
+     * Moves the student to its new phone number, if its number was changed.
+     */
+    void update(Student student) {
+        Integer phoneNumber = indexedNumbers.get(student);
+        if (phoneNumber == null || phoneNumber != student.getPhoneNumber()) {
+            remove(student);
+            add(student);
+        }
+    }
+
+    void clear() {
+        numbers = new int[INITIAL_CAPACITY];
+        students = new Object[INITIAL_CAPACITY];
+        usedSlots = 0;
+        indexedNumbers.clear();
+    }
+
+    /**
+     * Returns the slot holding the phone number, or the empty slot where it would be put.
+     */
+    private int findSlot(int phoneNumber) {
+        int mask = numbers.length - 1;
+        int slot = hash(phoneNumber) & mask;
+        while (students[slot] != null && numbers[slot] != phoneNumber) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(int phoneNumber) {
+        int hash = phoneNumber * HASH_MULTIPLIER;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Empties the slot, moving back any later entries in the same run of slots which could no longer be
+     * reached from their home slot, so lookups never need to step over deleted entries.
+     */
+    private void deleteSlot(int slot) {
+        int mask = numbers.length - 1;
+        int empty = slot;
+        int next = (slot + 1) & mask;
+        while (students[next] != null) {
+            int home = hash(numbers[next]) & mask;
+            // Move the entry back unless its home slot lies cyclically between the empty slot and itself
+            boolean isReachable = empty <= next ? empty < home && home <= next : empty < home || home <= next;
+            if (!isReachable) {
+                numbers[empty] = numbers[next];
+                students[empty] = students[next];
+                empty = next;
+            }
+            next = (next + 1) & mask;
+        }
+        students[empty] = null;
+        usedSlots--;
+    }
+
+    private void resize(int capacity) {
+        int[] oldNumbers = numbers;
+        Object[] oldStudents = students;
+        numbers = new int[capacity];
+        students = new Object[capacity];
+        for (int i = 0; i < oldNumbers.length; i++) {
+            if (oldStudents[i] != null) {
+                int slot = findSlot(oldNumbers[i]);
+                numbers[slot] = oldNumbers[i];
+                students[slot] = oldStudents[i];
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object addStudent(Object students, Student student) {
+        List<Student> sameNumber;
+        if (students instanceof Student) {
+            sameNumber = new ArrayList<>(2);
+            sameNumber.add((Student) students);
+        } else {
+            sameNumber = (List<Student>) students;
+        }
+        sameNumber.add(student);
+        return sameNumber;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object removeStudent(Object students, Student student) {
+        if (students == student) {
+            return null;
+        }
+        if (students instanceof Student) {
+            return students;
+        }
+        List<Student> sameNumber = (List<Student>) students;
+        sameNumber.remove(student);
+        return sameNumber.size() == 1 ? sameNumber.get(0) : sameNumber;
+    }
+}
@@ -0,0 +1,47 @@
+package classify.student;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+//@@author alalal47
+/**
+ * Read-only view of a list of students in a StudentOrder, stored as the rows of the list in sorted order,
+ * so that the list itself is never reordered.
+ * The view also keeps the sort key each student had when it was sorted, so that a change to a student
+ * only makes the view out of date if the change affects that student's key.
+ */
+final class SortedView extends AbstractList<Student> implements RandomAccess {
+    private final List<Student> students;
+    private final StudentOrder<?> order;
+    private final int[] permutation;
+    private final Object[] keys;
+
+    SortedView(List<Student> students, StudentOrder<?> order, int[] permutation, Object[] keys) {
+        this.students = students;
+        this.order = order;
+        this.permutation = permutation;
+        this.keys = keys;
+    }
+
+    /**
+     * Returns true if the student in the row still has the sort key it was sorted by.
+     *
+     * @param row Row of the student in the list
+     * @return True if the view is still in order for that student
+     */
+    boolean isKeyUnchanged(int row) {
+        return Objects.equals(keys[row], order.getKey(students.get(row)));
+    }
+
+    @Override
+    public Student get(int index) {
+        return students.get(permutation[index]);
+    }
+
+    @Override
+    public int size() {
+        return permutation.length;
+    }
+}
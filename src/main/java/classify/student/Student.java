@@ -1,6 +1,7 @@
 package classify.student;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,7 +18,10 @@ public class Student {
 
     //@@author tayponghee
     private StudentAttributes attributes;
-    private int totalClassesAttended;
+
+    //@@author alalal47
+    private List<StudentChangeListener> changeListeners;
+    private int changeCount = 0;
 
     //@@author Cryolian
     public Student(String name) {
@@ -27,13 +31,11 @@ public class Student {
 
     //@@ author tayponghee
     public int getTotalClassesAttended() {
-        return totalClassesAttended;
-    }
-
-    public void setTotalClassesAttended(int totalClassesAttended) {
-        this.totalClassesAttended = totalClassesAttended;
+        //@@author alalal47
+        return attributes.getTotalClassesAttended();
     }
 
+    //@@author tayponghee
     public void setLastPaymentDate(LocalDate lastPaymenDate) {
         this.attributes.setLastPaymentDate(lastPaymenDate);
     }
@@ -45,6 +47,8 @@ public class Student {
 
     public void setAttributes(StudentAttributes attributes) {
         this.attributes = attributes;
+        //@@author alalal47
+        notifyChanged();
     }
 
     public String getGender() {
@@ -59,12 +63,8 @@ public class Student {
         return attributes.getLastPaymentDate();
     }
     public boolean hasSubject(String subject) {
-        for (SubjectGrade subjectGrade : attributes.getSubjectGrades()) {
-            if (subjectGrade.getSubject().equalsIgnoreCase(subject)) {
-                return true;
-            }
-        }
-        return false;
+        //@@author alalal47
+        return attributes.findSubject(subject) != null;
     }
 
     //@@author ParthGandhiNUS
@@ -153,6 +153,8 @@ public class Student {
 
     public void setName(String name) {
         this.name = name;
+        //@@author alalal47
+        notifyChanged();
     }
 
     @Override
@@ -163,4 +165,57 @@ public class Student {
     public void printStringNumber() {
         System.out.println(this.name + ": " + String.valueOf(this.getPhoneNumber()));
     }
+
+    //@@author alalal47
+    /**
+     * Returns the number of changes made to this student and its attributes so far.
+     * Comparing the count before and after an operation tells whether the student was changed.
+     *
+     * @return Number of changes made to the student
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Registers a listener to be told about every change to this student. Registering twice has no effect.
+     *
+     * @param listener Listener to register
+     */
+    public void addChangeListener(StudentChangeListener listener) {
+        if (changeListeners == null) {
+            changeListeners = new ArrayList<>(1);
+        }
+        for (StudentChangeListener existingListener : changeListeners) {
+            if (existingListener == listener) {
+                return;
+            }
+        }
+        changeListeners.add(listener);
+    }
+
+    /**
+     * Stops telling the listener about changes to this student.
+     *
+     * @param listener Listener to remove
+     */
+    public void removeChangeListener(StudentChangeListener listener) {
+        if (changeListeners == null) {
+            return;
+        }
+        changeListeners.removeIf(existingListener -> existingListener == listener);
+    }
+
+    /**
+     * Records a change to this student and tells every registered listener about it.
+     */
+    void notifyChanged() {
+        changeCount++;
+        if (changeListeners == null) {
+            return;
+        }
+        for (int i = 0; i < changeListeners.size(); i++) {
+            changeListeners.get(i).studentChanged(this);
+        }
+    }
 }
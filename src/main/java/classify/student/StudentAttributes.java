@@ -1,27 +1,77 @@
 package classify.student;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
 
 //@@author tayponghee
 public class StudentAttributes extends Details {
     private Student student;
-    private List<SubjectGrade> subjectGrades;
+    //@@author alalal47
+    private final SubjectGradeMap subjectGrades = new SubjectGradeMap();
+    private int totalClassesAttended = 0;
 
+    //@@author tayponghee
     public StudentAttributes(Student student) {
         super();
         this.student = student;
-        this.subjectGrades = new ArrayList<>();
     }
 
     public void addSubjectGrade(SubjectGrade subjectGrade) {
         subjectGrades.add(subjectGrade);
+        //@@author alalal47
+        subjectGrade.setOwner(this);
+        totalClassesAttended += countedClasses(subjectGrade);
+        markChanged();
     }
 
+    //@@author tayponghee
     public List<SubjectGrade> getSubjectGrades() {
-        return subjectGrades;
+        return new TrackedSubjectGrades();
     }
 
+    //@@author alalal47
+    /**
+     * Returns the total classes attended for every subject the student takes, ignoring subjects without a
+     * valid number of classes. The total is kept up to date as subjects are added, changed or removed.
+     *
+     * @return Total classes attended by the student
+     */
+    public int getTotalClassesAttended() {
+        return totalClassesAttended;
+    }
+
+    /**
+     * Adds up the classes attended for every subject again, to check the running total against.
+     *
+     * @return Total classes attended by the student, counted from the subjects
+     */
+    int countTotalClassesAttended() {
+        int totalClasses = 0;
+        for (SubjectGrade subjectGrade : subjectGrades.values()) {
+            totalClasses += countedClasses(subjectGrade);
+        }
+        return totalClasses;
+    }
+
+    private static int countedClasses(SubjectGrade subjectGrade) {
+        return Math.max(subjectGrade.getClassesAttended(), 0);
+    }
+
+    /**
+     * Updates the running total after the classes attended for a subject the student takes were changed.
+     *
+     * @param previousClasses Classes attended for the subject before the change
+     * @param classes         Classes attended for the subject after the change
+     */
+    void classesAttendedChanged(int previousClasses, int classes) {
+        totalClassesAttended += Math.max(classes, 0) - Math.max(previousClasses, 0);
+    }
+
+    public Student getStudent() {
+        return student;
+    }
+
+    //@@author tayponghee
     public String getName() {
         return student.getName();
     }
@@ -30,6 +80,15 @@ public class StudentAttributes extends Details {
         student.setName(name);
     }
 
+    //@@author alalal47
+    @Override
+    protected void markChanged() {
+        if (student != null) {
+            student.notifyChanged();
+        }
+    }
+
+    //@@author tayponghee
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -42,7 +101,7 @@ public class StudentAttributes extends Details {
                 ", Remarks: " + remarks + '\'' +
                 ", subjectGrades=[");
 
-        for (SubjectGrade subjectGrade : subjectGrades) {
+        for (SubjectGrade subjectGrade : subjectGrades.values()) {
             sb.append(subjectGrade.toString()).append(", ");
         }
 
@@ -51,29 +110,101 @@ public class StudentAttributes extends Details {
         return sb.toString();
     }
 
-    //@@author blackmirag3
+    //@@author alalal47
+    /**
+     * Returns the first subject the student takes with the given name, ignoring case, found without a scan.
+     *
+     * @param subjectName Name of the subject
+     * @return The subject, or null if the student does not take it
+     */
     public SubjectGrade findSubject(String subjectName) {
+        return subjectGrades.find(subjectName);
+    }
 
-        for (SubjectGrade subjectGrade : subjectGrades) {
-            String currentSubjectName = subjectGrade.getSubject();
+    //@@author blackmirag3
+    public void deleteSubject(String subjectName) {
+        //@@author alalal47
+        SubjectGrade subjectGrade = subjectGrades.find(subjectName);
+        if (subjectGrade == null) {
+            return;
+        }
+        if (!subjectGrade.getSubject().equals(subjectName)) {
+            subjectGrade = findExactSubject(subjectName);
+        }
+        //@@author blackmirag3
+        if (subjectGrade != null) {
+            subjectGrades.remove(subjectGrade);
+            //@@author alalal47
+            subjectGrade.setOwner(null);
+            totalClassesAttended -= countedClasses(subjectGrade);
+            markChanged();
+        }
+    }
 
-            if (currentSubjectName.equalsIgnoreCase(subjectName)) {
+    /**
+     * Returns the first subject whose name matches exactly, for the rare student with the same subject in
+     * different cases.
+     */
+    private SubjectGrade findExactSubject(String subjectName) {
+        for (SubjectGrade subjectGrade : subjectGrades.values()) {
+            if (subjectGrade.getSubject().equals(subjectName)) {
                 return subjectGrade;
             }
         }
         return null;
     }
 
-    public void deleteSubject(String subjectName) {
+    /**
+     * Keeps finding a subject by name after it was renamed.
+     *
+     * @param subjectGrade Subject which was renamed
+     * @param previousName Name of the subject before it was renamed
+     */
+    void subjectRenamed(SubjectGrade subjectGrade, String previousName) {
+        subjectGrades.rename(subjectGrade, previousName);
+    }
 
-        for (SubjectGrade subjectGrade : subjectGrades) {
-            String currentSubjectName = subjectGrade.getSubject();
+    //@@author alalal47
+    /**
+     * View of the subject grades which marks the student as changed whenever a subject is added or removed
+     * through it, so callers can keep modifying the returned list directly.
+     */
+    private class TrackedSubjectGrades extends AbstractList<SubjectGrade> {
+        @Override
+        public SubjectGrade get(int index) {
+            return subjectGrades.get(index);
+        }
 
-            if (currentSubjectName.equals(subjectName)) {
-                subjectGrades.remove(subjectGrade);
-                return;
-            }
+        @Override
+        public int size() {
+            return subjectGrades.size();
+        }
+
+        @Override
+        public SubjectGrade set(int index, SubjectGrade subjectGrade) {
+            SubjectGrade previous = subjectGrades.set(index, subjectGrade);
+            previous.setOwner(null);
+            subjectGrade.setOwner(StudentAttributes.this);
+            totalClassesAttended += countedClasses(subjectGrade) - countedClasses(previous);
+            markChanged();
+            return previous;
         }
-    }
 
+        @Override
+        public void add(int index, SubjectGrade subjectGrade) {
+            subjectGrades.add(index, subjectGrade);
+            subjectGrade.setOwner(StudentAttributes.this);
+            totalClassesAttended += countedClasses(subjectGrade);
+            markChanged();
+        }
+
+        @Override
+        public SubjectGrade remove(int index) {
+            SubjectGrade removed = subjectGrades.remove(index);
+            removed.setOwner(null);
+            totalClassesAttended -= countedClasses(removed);
+            markChanged();
+            return removed;
+        }
+    }
 }
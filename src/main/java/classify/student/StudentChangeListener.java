@@ -0,0 +1,14 @@
+package classify.student;
+
+//@@author alalal47
+/**
+ * Notified whenever any detail of a student, including its subjects, is changed.
+ */
+public interface StudentChangeListener {
+    /**
+     * Called after a detail of the student was changed.
+     *
+     * @param student Student that was changed
+     */
+    void studentChanged(Student student);
+}
@@ -0,0 +1,324 @@
+package classify.student;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+//@@author alalal47
+/**
+ * Secondary indexes over the students of an IndexedStudentList: the students taking each subject,
+ * the students grouped by last payment date and the students ordered by total classes attended.
+ * Every student is given a position which follows its place in the list, and students which are equal in an
+ * index are kept in list order, so every index gives the same order as a stable sort of the list.
+ * The indexes are updated one student at a time as the list changes, so reading k students from any of them
+ * takes O(k) time.
+ */
+public class StudentIndexes {
+    private static final long POSITION_GAP = 1L << 20;
+
+    private static final Comparator<IndexedValues> LIST_ORDER = Comparator.comparingLong(values -> values.position);
+    private static final Comparator<IndexedValues> TOTAL_CLASSES_ORDER =
+            Comparator.<IndexedValues>comparingInt(values -> values.totalClasses).thenComparing(LIST_ORDER);
+
+    private final Map<Student, IndexedValues> indexedValues = new IdentityHashMap<>();
+    private final Map<String, NavigableSet<IndexedValues>> studentsBySubject = new HashMap<>();
+    private final NavigableMap<LocalDate, NavigableSet<IndexedValues>> studentsByPaymentDate =
+            new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+    private final NavigableSet<IndexedValues> studentsByTotalClasses = new TreeSet<>(TOTAL_CLASSES_ORDER);
+
+    /**
+     * The values a student was indexed under, kept so that the student can be found and removed
+     * from every index after its details have changed.
+     * The indexes hold these instead of the students, so comparing two entries needs no lookups.
+     */
+    private static class IndexedValues {
+        private final Student student;
+        private long position;
+        private Set<String> subjects;
+        private LocalDate lastPaymentDate;
+        private int totalClasses;
+
+        private IndexedValues(Student student) {
+            this.student = student;
+        }
+    }
+
+    /**
+     * Returns the key used to index a subject, ignoring its case.
+     *
+     * @param subject Name of the subject
+     * @return Key which is equal for subject names differing only by case
+     */
+    static String toSubjectKey(String subject) {
+        return subject.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the students taking the subject, ignoring case, in list order.
+     *
+     * @param subject Name of the subject
+     * @return Students taking the subject
+     */
+    public List<Student> getStudentsWithSubject(String subject) {
+        NavigableSet<IndexedValues> students = studentsBySubject.get(toSubjectKey(subject));
+        return students == null ? new ArrayList<>() : toStudents(students);
+    }
+
+    /**
+     * Returns every student ordered by last payment date, least recent first, with students who paid on the
+     * same date in list order.
+     *
+     * @return Students ordered by last payment date
+     */
+    public List<Student> getStudentsByLastPaymentDate() {
+        return getStudentsByLastPaymentDate(indexedValues.size());
+    }
+
+    /**
+     * Returns the first students ordered by last payment date, least recent first, reading only as many
+     * entries of the index as are returned.
+     *
+     * @param limit Largest number of students to return
+     * @return Up to limit students who paid the least recently
+     */
+    public List<Student> getStudentsByLastPaymentDate(int limit) {
+        List<Student> students = new ArrayList<>(Math.min(limit, indexedValues.size()));
+        for (NavigableSet<IndexedValues> studentsOnDate : studentsByPaymentDate.values()) {
+            for (IndexedValues values : studentsOnDate) {
+                if (students.size() == limit) {
+                    return students;
+                }
+                students.add(values.student);
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns the students whose last payment date is between the two dates, inclusive, least recent first.
+     * Pass null as the first date to include students without a payment date.
+     *
+     * @param from Earliest payment date to include
+     * @param to   Latest payment date to include
+     * @return Students who last paid between the two dates
+     */
+    public List<Student> getStudentsPaidBetween(LocalDate from, LocalDate to) {
+        List<Student> students = new ArrayList<>();
+        for (NavigableSet<IndexedValues> studentsOnDate : studentsByPaymentDate.subMap(from, true, to, true).values()) {
+            for (IndexedValues values : studentsOnDate) {
+                students.add(values.student);
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns every student ordered by total classes attended, fewest first, with ties in list order.
+     *
+     * @return Students ordered by total classes attended
+     */
+    public List<Student> getStudentsByTotalClasses() {
+        return toStudents(studentsByTotalClasses);
+    }
+
+    /**
+     * Returns the first students ordered by total classes attended, fewest first, reading only as many
+     * entries of the index as are returned.
+     *
+     * @param limit Largest number of students to return
+     * @return Up to limit students who attended the fewest classes
+     */
+    public List<Student> getStudentsByTotalClasses(int limit) {
+        List<Student> students = new ArrayList<>(Math.min(limit, indexedValues.size()));
+        for (IndexedValues values : studentsByTotalClasses) {
+            if (students.size() == limit) {
+                break;
+            }
+            students.add(values.student);
+        }
+        return students;
+    }
+
+    private static List<Student> toStudents(Collection<IndexedValues> entries) {
+        List<Student> students = new ArrayList<>(entries.size());
+        for (IndexedValues values : entries) {
+            students.add(values.student);
+        }
+        return students;
+    }
+
+    boolean contains(Student student) {
+        return indexedValues.containsKey(student);
+    }
+
+    private long getPosition(Student student) {
+        return indexedValues.get(student).position;
+    }
+
+    /**
+     * Adds the students between two indexes of the list, which were just inserted there, to every index.
+     * The new students are spread evenly between the students around them, and every student is given
+     * a new position first if there is not enough room.
+     *
+     * @param students Every student in the list, in list order
+     * @param from     Index of the first inserted student
+     * @param to       Index just past the last inserted student
+     */
+    void addRange(List<Student> students, int from, int to) {
+        Student before = from > 0 ? students.get(from - 1) : null;
+        Student after = to < students.size() ? students.get(to) : null;
+        long step = findStep(before, after, to - from);
+        if (step < 1) {
+            renumber(students);
+            step = findStep(before, after, to - from);
+        }
+        if (step < 1) {
+            rebuild(students);
+            return;
+        }
+
+        long position = before == null ? 0 : getPosition(before);
+        for (int i = from; i < to; i++) {
+            Student student = students.get(i);
+            if (!contains(student)) {
+                position += step;
+                add(student, position);
+            }
+        }
+    }
+
+    private long findStep(Student before, Student after, int count) {
+        if (after == null) {
+            return POSITION_GAP;
+        }
+        long lower = before == null ? 0 : getPosition(before);
+        return (getPosition(after) - lower) / (count + 1);
+    }
+
+    /**
+     * Adds a student to every index.
+     *
+     * @param student  Student to add
+     * @param position Position of the student, following its place in the list
+     */
+    void add(Student student, long position) {
+        IndexedValues values = new IndexedValues(student);
+        values.position = position;
+        indexedValues.put(student, values);
+        insert(student, values);
+    }
+
+    /**
+     * Removes a student from every index.
+     *
+     * @param student Student to remove
+     */
+    void remove(Student student) {
+        IndexedValues values = indexedValues.get(student);
+        if (values == null) {
+            return;
+        }
+        delete(values);
+        indexedValues.remove(student);
+    }
+
+    /**
+     * Moves a student to the right place in every index after its details have changed.
+     *
+     * @param student Student whose details have changed
+     */
+    void update(Student student) {
+        IndexedValues values = indexedValues.get(student);
+        if (values == null) {
+            return;
+        }
+        delete(values);
+        insert(student, values);
+    }
+
+    /**
+     * Gives every indexed student a new position in the order of the list, without changing their order,
+     * so that the indexes stay valid.
+     */
+    private void renumber(List<Student> students) {
+        long position = 0;
+        for (Student student : students) {
+            IndexedValues values = indexedValues.get(student);
+            if (values != null) {
+                position += POSITION_GAP;
+                values.position = position;
+            }
+        }
+    }
+
+    /**
+     * Builds every index again from the students in the list, after the list was reordered.
+     *
+     * @param students Every student in the list, in list order
+     */
+    void rebuild(List<Student> students) {
+        clear();
+        long position = 0;
+        for (Student student : students) {
+            if (!contains(student)) {
+                position += POSITION_GAP;
+                add(student, position);
+            }
+        }
+    }
+
+    void clear() {
+        indexedValues.clear();
+        studentsBySubject.clear();
+        studentsByPaymentDate.clear();
+        studentsByTotalClasses.clear();
+    }
+
+    private void insert(Student student, IndexedValues values) {
+        values.subjects = new HashSet<>();
+        for (SubjectGrade subjectGrade : student.getAttributes().getSubjectGrades()) {
+            if (subjectGrade.getSubjectId() != SubjectDictionary.NO_SUBJECT) {
+                values.subjects.add(SubjectDictionary.getKey(subjectGrade.getSubjectId()));
+            }
+        }
+        values.lastPaymentDate = student.getLastPaymentDate();
+        values.totalClasses = student.getTotalClassesAttended();
+
+        for (String subject : values.subjects) {
+            studentsBySubject.computeIfAbsent(subject, key -> new TreeSet<>(LIST_ORDER)).add(values);
+        }
+        studentsByPaymentDate.computeIfAbsent(values.lastPaymentDate, key -> new TreeSet<>(LIST_ORDER)).add(values);
+        studentsByTotalClasses.add(values);
+    }
+
+    private void delete(IndexedValues values) {
+        studentsByTotalClasses.remove(values);
+        removeFromGroup(studentsByPaymentDate, values.lastPaymentDate, values);
+        for (String subject : values.subjects) {
+            removeFromGroup(studentsBySubject, subject, values);
+        }
+    }
+
+    private static <K> void removeFromGroup(Map<K, NavigableSet<IndexedValues>> groups, K key, IndexedValues values) {
+        NavigableSet<IndexedValues> group = groups.get(key);
+        if (group == null) {
+            return;
+        }
+        group.remove(values);
+        if (group.isEmpty()) {
+            groups.remove(key);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package classify.student;
 
 import java.util.ArrayList;
+import java.util.List;
 
+import classify.ui.UI;
 import classify.user.InvalidSubjectException;
 import classify.user.NameNumberMatchException;
 
@@ -15,9 +17,9 @@ public class StudentList {
     public static final String ONE_STUDENT_MESSAGE = "Currently, there is 1 student in the list.";
     public static final String CURRENTLY_THERE_ARE = "Currently, there are ";
     public static final String STUDENTS_IN_THE_LIST = " students in the list.";
-    public static ArrayList<Student> masterStudentList = new ArrayList<>();
-    public static ArrayList<Student> recentlyDeletedList = new ArrayList<>();
-    public static ArrayList<Student> archiveList = new ArrayList<>();
+    public static IndexedStudentList masterStudentList = new IndexedStudentList();
+    public static IndexedStudentList recentlyDeletedList = new IndexedStudentList();
+    public static IndexedStudentList archiveList = new IndexedStudentList();
 
     // @@author Cryolian
     public ArrayList<Student> studentList;
@@ -36,9 +38,12 @@ public class StudentList {
      *                    attributes of the Student
      */
     public static void printCurrentArrayList(ArrayList<Student> currentList) {
+        //@@author alalal47
+        StringBuilder lines = UI.startLines();
         for (int i = 1; i <= currentList.size(); i++) {
-            System.out.println(i + DOT + currentList.get(i - 1));
+            lines.append(i).append(DOT).append(currentList.get(i - 1)).append(System.lineSeparator());
         }
+        UI.printLines(lines);
     }
 
     // @@author ParthGandhiNUS
@@ -103,9 +108,32 @@ public class StudentList {
         }
     }
 
+    //@@author alalal47
+    /**
+     * Finds every student in the list with the phone number.
+     * Lists which keep an index of their phone numbers are searched without scanning.
+     * @param studentList List to look through for the phone number.
+     * @param number      Phone number of the students to find.
+     * @return Students with the phone number, which is empty if there are none.
+     */
+    public static List<Student> findStudentsByPhoneNumber(ArrayList<Student> studentList, int number) {
+        if (studentList instanceof IndexedStudentList) {
+            return ((IndexedStudentList) studentList).getPhoneNumberIndex().find(number);
+        }
+        List<Student> found = new ArrayList<>(1);
+        for (Student s : studentList) {
+            if (s.getPhoneNumber() == number) {
+                found.add(s);
+            }
+        }
+        return found;
+    }
+
+    //@@author Cryolian
     /**
      * Function checks if a name and number pair already exists in a given list.
      * Throws an exception if it does.
+     * Lists which keep an index of their name and number pairs are checked without scanning.
      * @param studentList               List to check through for the name and number.
      * @param name                      Name of the student to find.
      * @param number                    Phone number of the student to find.
@@ -118,6 +146,17 @@ public class StudentList {
             return;
         }
 
+        //@@author alalal47
+        if (studentList instanceof IndexedStudentList) {
+            if (((IndexedStudentList) studentList).containsNameNumber(name, number)) {
+                throw new NameNumberMatchException("Student with the same " +
+                        "name and phone number found.");
+            }
+            return;
+        }
+
+        //@@author Cryolian
+
         for (Student s : studentList) {
             if (s.getName().equalsIgnoreCase(name) && s.getPhoneNumber() == number) {
                 throw new NameNumberMatchException("Student with the same " +
@@ -176,4 +215,22 @@ public class StudentList {
         }
     }
 
+    //@@author alalal47
+    /**
+     * Checks the running total of classes attended kept for each student against a total counted again
+     * from their subjects, so tests can check that every change to a subject updated the total.
+     *
+     * @param studentList Students to check
+     * @return Students whose running total differs from their subjects, which should be empty
+     */
+    public static List<Student> findStudentsWithWrongTotals(List<Student> studentList) {
+        List<Student> wrongTotals = new ArrayList<>();
+        for (Student student : studentList) {
+            StudentAttributes attributes = student.getAttributes();
+            if (attributes.getTotalClassesAttended() != attributes.countTotalClassesAttended()) {
+                wrongTotals.add(student);
+            }
+        }
+        return wrongTotals;
+    }
 }
@@ -0,0 +1,239 @@
+package classify.student;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+//@@author alalal47
+/**
+ * Index of student names, ignoring case, kept in sorted order so that students can be found by their full
+ * name, by the start of their name, or by a name with a few typing mistakes, without scanning every student.
+ * Searching for similar names walks the sorted names like a trie, sharing the work for names which start
+ * the same way and skipping every name which starts with letters too different from the name searched for.
+ */
+public final class StudentNameIndex {
+    /** Character greater than any character in a name, used to find the end of the names with a prefix. */
+    private static final char PREFIX_END = Character.MAX_VALUE;
+
+    /** Students by case-folded name. Each value is a Student, or a List of Students sharing the name. */
+    private final NavigableMap<String, Object> studentsByName = new TreeMap<>();
+    private final Map<Student, String> indexedNames = new IdentityHashMap<>();
+
+    /**
+     * Builds an index of the students in the list, for lists which do not keep one.
+     *
+     * @param students Students to index
+     * @return Index of the names of the students
+     */
+    public static StudentNameIndex of(List<Student> students) {
+        StudentNameIndex index = new StudentNameIndex();
+        for (Student student : students) {
+            index.add(student);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the key a name is indexed by, which is equal for names differing only by case.
+     *
+     * @param name Name of a student
+     * @return Case-folded name
+     */
+    static String toNameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    void add(Student student) {
+        if (student.getName() == null || indexedNames.containsKey(student)) {
+            return;
+        }
+        String key = toNameKey(student.getName());
+        indexedNames.put(student, key);
+        studentsByName.merge(key, student, StudentNameIndex::addStudents);
+    }
+
+    void remove(Student student) {
+        String key = indexedNames.remove(student);
+        if (key != null) {
+            studentsByName.computeIfPresent(key, (name, students) -> removeStudent(students, student));
+        }
+    }
+
+    /**
+     * Moves the student to its new name, if its name was changed.
+     */
+    void update(Student student) {
+        String key = indexedNames.get(student);
+        String newKey = student.getName() == null ? null : toNameKey(student.getName());
+        if (key == null || !key.equals(newKey)) {
+            remove(student);
+            add(student);
+        }
+    }
+
+    void clear() {
+        studentsByName.clear();
+        indexedNames.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object addStudents(Object students, Object student) {
+        List<Student> sameName;
+        if (students instanceof Student) {
+            sameName = new ArrayList<>(2);
+            sameName.add((Student) students);
+        } else {
+            sameName = (List<Student>) students;
+        }
+        sameName.add((Student) student);
+        return sameName;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object removeStudent(Object students, Student student) {
+        if (students == student) {
+            return null;
+        }
+        if (students instanceof Student) {
+            return students;
+        }
+        List<Student> sameName = (List<Student>) students;
+        sameName.remove(student);
+        return sameName.size() == 1 ? sameName.get(0) : sameName;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addTo(List<Student> found, Object students) {
+        if (students instanceof Student) {
+            found.add((Student) students);
+        } else {
+            found.addAll((List<Student>) students);
+        }
+    }
+
+    /**
+     * Returns every student with the name, ignoring case.
+     *
+     * @param name Name to find
+     * @return Students with the name, which is empty if there are none
+     */
+    public List<Student> findExact(String name) {
+        List<Student> found = new ArrayList<>(1);
+        Object students = studentsByName.get(toNameKey(name));
+        if (students != null) {
+            addTo(found, students);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the students whose names start with the prefix, ignoring case, in order of name.
+     *
+     * @param prefix Start of the names to find
+     * @param limit  Largest number of students to return
+     * @return Up to limit students whose names start with the prefix
+     */
+    public List<Student> findByPrefix(String prefix, int limit) {
+        String key = toNameKey(prefix);
+        List<Student> found = new ArrayList<>();
+        for (Object students : studentsByName.subMap(key, true, key + PREFIX_END, false).values()) {
+            addTo(found, students);
+            if (found.size() >= limit) {
+                return found.subList(0, limit);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the students whose names can be made from the given name with at most maxDistance single
+     * letters inserted, deleted or replaced, ignoring case, in order of name.
+     *
+     * @param name        Name to find students with similar names to
+     * @param maxDistance Largest number of letters which may differ
+     * @param limit       Largest number of students to return
+     * @return Up to limit students with similar names
+     */
+    public List<Student> findSimilar(String name, int maxDistance, int limit) {
+        String query = toNameKey(name);
+        int queryLength = query.length();
+        List<Student> found = new ArrayList<>();
+        // rows.get(i) holds the edit distances between the first i letters of the current name and each prefix
+        // of the query, so names sharing their first letters with the previous name reuse its rows.
+        List<int[]> rows = new ArrayList<>();
+        int[] firstRow = new int[queryLength + 1];
+        for (int j = 0; j <= queryLength; j++) {
+            firstRow[j] = j;
+        }
+        rows.add(firstRow);
+        String previous = "";
+
+        String key = studentsByName.isEmpty() ? null : studentsByName.firstKey();
+        while (key != null && found.size() < limit) {
+            int depth = Math.min(commonPrefixLength(previous, key), rows.size() - 1);
+            int skipDepth = -1;
+            for (int i = depth + 1; i <= key.length(); i++) {
+                int[] row = nextRow(rows.get(i - 1), key.charAt(i - 1), query);
+                if (rows.size() > i) {
+                    rows.set(i, row);
+                } else {
+                    rows.add(row);
+                }
+                depth = i;
+                if (min(row) > maxDistance) {
+                    skipDepth = i;
+                    break;
+                }
+            }
+            while (rows.size() > depth + 1) {
+                rows.remove(rows.size() - 1);
+            }
+
+            if (skipDepth >= 0) {
+                // No name starting with these letters can be close enough, so skip all of them
+                String skippedPrefix = key.substring(0, skipDepth);
+                previous = skippedPrefix;
+                key = studentsByName.ceilingKey(skippedPrefix + PREFIX_END);
+                continue;
+            }
+            if (rows.get(key.length())[queryLength] <= maxDistance) {
+                addTo(found, studentsByName.get(key));
+            }
+            previous = key;
+            key = studentsByName.higherKey(key);
+        }
+        return found.size() > limit ? found.subList(0, limit) : found;
+    }
+
+    private static int[] nextRow(int[] previousRow, char letter, String query) {
+        int[] row = new int[previousRow.length];
+        row[0] = previousRow[0] + 1;
+        for (int j = 1; j < row.length; j++) {
+            int replaceCost = query.charAt(j - 1) == letter ? 0 : 1;
+            row[j] = Math.min(Math.min(row[j - 1] + 1, previousRow[j] + 1), previousRow[j - 1] + replaceCost);
+        }
+        return row;
+    }
+
+    private static int min(int[] row) {
+        int min = row[0];
+        for (int value : row) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private static int commonPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        for (int i = 0; i < length; i++) {
+            if (first.charAt(i) != second.charAt(i)) {
+                return i;
+            }
+        }
+        return length;
+    }
+}
@@ -0,0 +1,107 @@
+package classify.student;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+//@@author alalal47
+/**
+ * Order in which students can be listed, given by a sort key read from each student.
+ * Students with equal keys keep their order in the list, in the same way as a stable sort.
+ *
+ * @param <K> Type of the sort key
+ */
+public final class StudentOrder<K> {
+    public static final StudentOrder<String> BY_NAME =
+            new StudentOrder<>(Student::getName, Comparator.naturalOrder());
+    public static final StudentOrder<Integer> BY_TOTAL_CLASSES =
+            new StudentOrder<>(Student::getTotalClassesAttended, Comparator.naturalOrder());
+    public static final StudentOrder<LocalDate> BY_LAST_PAYMENT_DATE =
+            new StudentOrder<>(Student::getLastPaymentDate, Comparator.nullsFirst(Comparator.naturalOrder()));
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final Function<Student, K> sortKey;
+    private final Comparator<? super K> keyOrder;
+
+    private StudentOrder(Function<Student, K> sortKey, Comparator<? super K> keyOrder) {
+        this.sortKey = sortKey;
+        this.keyOrder = keyOrder;
+    }
+
+    K getKey(Student student) {
+        return sortKey.apply(student);
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareKeys(Object first, Object second) {
+        return keyOrder.compare((K) first, (K) second);
+    }
+
+    /**
+     * Returns the students in this order, without changing the order of the given list.
+     * The returned view reads from the given list, so it is only valid until the list is changed.
+     *
+     * @param students Students to sort
+     * @return View of the students in this order
+     */
+    public List<Student> sort(List<Student> students) {
+        return sortRows(students);
+    }
+
+    SortedView sortRows(List<Student> students) {
+        int studentCount = students.size();
+        Object[] keys = new Object[studentCount];
+        int[] rows = new int[studentCount];
+        for (int row = 0; row < studentCount; row++) {
+            keys[row] = getKey(students.get(row));
+            rows[row] = row;
+        }
+        sortRows(rows, new int[studentCount], 0, studentCount, keys);
+        return new SortedView(students, this, rows, keys);
+    }
+
+    /**
+     * Sorts the rows between two indexes by their keys with a merge sort, which keeps rows with equal keys
+     * in their order and sorts the rows as ints instead of boxing them to use Arrays.sort.
+     *
+     * @param rows   Rows of the list to sort
+     * @param buffer Array as long as rows, used while merging
+     * @param from   Index of the first row to sort
+     * @param to     Index just past the last row to sort
+     * @param keys   Sort key of every row of the list
+     */
+    private void sortRows(int[] rows, int[] buffer, int from, int to, Object[] keys) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            insertionSortRows(rows, from, to, keys);
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        sortRows(rows, buffer, from, middle, keys);
+        sortRows(rows, buffer, middle, to, keys);
+        if (compareKeys(keys[rows[middle - 1]], keys[rows[middle]]) <= 0) {
+            // Both halves are already in order with each other
+            return;
+        }
+        System.arraycopy(rows, from, buffer, from, to - from);
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            boolean isLeftNext = right == to
+                    || left < middle && compareKeys(keys[buffer[left]], keys[buffer[right]]) <= 0;
+            rows[i] = isLeftNext ? buffer[left++] : buffer[right++];
+        }
+    }
+
+    private void insertionSortRows(int[] rows, int from, int to, Object[] keys) {
+        for (int i = from + 1; i < to; i++) {
+            int row = rows[i];
+            int j = i - 1;
+            while (j >= from && compareKeys(keys[rows[j]], keys[row]) > 0) {
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            rows[j + 1] = row;
+        }
+    }
+}
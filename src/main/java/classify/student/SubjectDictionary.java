@@ -0,0 +1,82 @@
+package classify.student;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+//@@author alalal47
+/**
+ * Dictionary of every subject name in use, which gives each name a small id.
+ * Subjects store the id instead of their own copy of the name, so a large list of students taking the same
+ * few subjects keeps only one copy of each name, and of the key used to find it ignoring case.
+ * Ids are never reused, since there are only ever a few distinct subjects.
+ * Names can be added from several threads, while looking up a name by its id needs no locking.
+ */
+public final class SubjectDictionary {
+    /** Id of a missing subject name. */
+    public static final int NO_SUBJECT = -1;
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[16];
+    private static volatile String[] keys = new String[16];
+    private static int size = 0;
+
+    private SubjectDictionary() {
+    }
+
+    /**
+     * Returns the id of the subject name, adding the name to the dictionary if it is new.
+     *
+     * @param name Name of the subject, which may be null
+     * @return Id of the name, or NO_SUBJECT if the name is null
+     */
+    public static int toId(String name) {
+        if (name == null) {
+            return NO_SUBJECT;
+        }
+        Integer id = ids.get(name);
+        return id != null ? id : addName(name);
+    }
+
+    private static synchronized int addName(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        if (size == names.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            names = Arrays.copyOf(names, size * 2);
+        }
+        keys[size] = StudentIndexes.toSubjectKey(name);
+        names[size] = name;
+        ids.put(name, size);
+        return size++;
+    }
+
+    /**
+     * Returns the subject name with the given id.
+     *
+     * @param id Id given by toId
+     * @return Name of the subject, or null for NO_SUBJECT
+     */
+    public static String getName(int id) {
+        return id == NO_SUBJECT ? null : names[id];
+    }
+
+    /**
+     * Returns the key used to find the subject with the given id, which is equal for names differing only by case.
+     *
+     * @param id Id given by toId
+     * @return Key of the subject, or null for NO_SUBJECT
+     */
+    static String getKey(int id) {
+        return id == NO_SUBJECT ? null : keys[id];
+    }
+
+    /**
+     * Returns the number of distinct subject names seen so far.
+     */
+    public static int size() {
+        return ids.size();
+    }
+}
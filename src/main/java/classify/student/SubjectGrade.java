@@ -1,20 +1,36 @@
 package classify.student;
 
 public class SubjectGrade {
-    private String subject;
+    //@@author alalal47
+    private int subjectId;
+    //@@author tayponghee
     private double grade;
     private int classesAttended;
+    //@@author alalal47
+    private StudentAttributes owner;
 
     public SubjectGrade(String subject, double grade, int classesAttended) {
-        this.subject = subject;
+        //@@author alalal47
+        this.subjectId = SubjectDictionary.toId(subject);
+        //@@author tayponghee
         this.grade = grade;
         this.classesAttended = classesAttended;
     }
 
     public String getSubject() {
-        return subject;
+        //@@author alalal47
+        return SubjectDictionary.getName(subjectId);
     }
 
+    /**
+     * Returns the id of the subject name in the subject dictionary.
+     */
+    int getSubjectId() {
+        return subjectId;
+    }
+
+    //@@author tayponghee
+
     public double getGrade() {
         return grade;
     }
@@ -24,14 +40,40 @@ public class SubjectGrade {
     }
 
     public void setSubject(String subject) {
-        this.subject = subject;
+        //@@author alalal47
+        String previousSubject = getSubject();
+        subjectId = SubjectDictionary.toId(subject);
+        if (owner != null) {
+            owner.subjectRenamed(this, previousSubject);
+        }
+        //@@author tayponghee
+        markChanged();
     }
 
     public void setGrade(double grade) {
         this.grade = grade;
+        markChanged();
     }
 
     public void setClassesAttended(int classesAttended) {
+        //@@author alalal47
+        int previousClasses = this.classesAttended;
         this.classesAttended = classesAttended;
+        if (owner != null) {
+            owner.classesAttendedChanged(previousClasses, classesAttended);
+        }
+        //@@author tayponghee
+        markChanged();
+    }
+
+    //@@author alalal47
+    void setOwner(StudentAttributes owner) {
+        this.owner = owner;
+    }
+
+    private void markChanged() {
+        if (owner != null) {
+            owner.markChanged();
+        }
     }
 }
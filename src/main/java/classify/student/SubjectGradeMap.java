@@ -0,0 +1,122 @@
+package classify.student;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+//@@author alalal47
+/**
+ * Subjects of a student in the order they were added, which can also be found by name, ignoring case,
+ * in constant time.
+ * The order is kept so that subjects are shown and saved in the same order as before.
+ * A student should not take the same subject twice, but a data file may still contain a subject more than once,
+ * so every subject is kept, and finding a subject by name returns the first one with that name.
+ */
+final class SubjectGradeMap {
+    private final List<SubjectGrade> subjectGrades = new ArrayList<>();
+    private final Map<String, SubjectGrade> subjectsByName = new HashMap<>();
+
+    /**
+     * Returns the key used to find a subject, which is equal for names differing only by case.
+     */
+    static String toKey(String subjectName) {
+        return subjectName == null ? null : StudentIndexes.toSubjectKey(subjectName);
+    }
+
+    private static String keyOf(SubjectGrade subjectGrade) {
+        return SubjectDictionary.getKey(subjectGrade.getSubjectId());
+    }
+
+    SubjectGrade get(int index) {
+        return subjectGrades.get(index);
+    }
+
+    int size() {
+        return subjectGrades.size();
+    }
+
+    List<SubjectGrade> values() {
+        return subjectGrades;
+    }
+
+    /**
+     * Returns the first subject with the name, ignoring case, or null if the student does not take it.
+     */
+    SubjectGrade find(String subjectName) {
+        return subjectsByName.get(toKey(subjectName));
+    }
+
+    void add(SubjectGrade subjectGrade) {
+        subjectGrades.add(subjectGrade);
+        subjectsByName.putIfAbsent(keyOf(subjectGrade), subjectGrade);
+    }
+
+    void add(int index, SubjectGrade subjectGrade) {
+        subjectGrades.add(index, subjectGrade);
+        mapIfFirst(subjectGrade, index);
+    }
+
+    SubjectGrade set(int index, SubjectGrade subjectGrade) {
+        SubjectGrade previous = subjectGrades.set(index, subjectGrade);
+        unmap(previous, previous.getSubject());
+        mapIfFirst(subjectGrade, index);
+        return previous;
+    }
+
+    SubjectGrade remove(int index) {
+        SubjectGrade removed = subjectGrades.remove(index);
+        unmap(removed, removed.getSubject());
+        return removed;
+    }
+
+    boolean remove(SubjectGrade subjectGrade) {
+        int index = subjectGrades.indexOf(subjectGrade);
+        if (index < 0) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    /**
+     * Finds a subject by its new name after it was renamed.
+     *
+     * @param subjectGrade Subject which was renamed
+     * @param previousName Name of the subject before it was renamed
+     */
+    void rename(SubjectGrade subjectGrade, String previousName) {
+        unmap(subjectGrade, previousName);
+        mapIfFirst(subjectGrade, subjectGrades.indexOf(subjectGrade));
+    }
+
+    /**
+     * Lets the subject at the given index be found by its name, unless an earlier subject has the same name.
+     */
+    private void mapIfFirst(SubjectGrade subjectGrade, int index) {
+        String key = keyOf(subjectGrade);
+        SubjectGrade first = subjectsByName.get(key);
+        if (first == null || subjectGrades.indexOf(first) > index) {
+            subjectsByName.put(key, subjectGrade);
+        }
+    }
+
+    /**
+     * Stops finding the subject by the given name, finding the next subject with the same name instead if there is
+     * one.
+     */
+    private void unmap(SubjectGrade subjectGrade, String subjectName) {
+        String key = toKey(subjectName);
+        if (subjectsByName.get(key) != subjectGrade) {
+            return;
+        }
+        subjectsByName.remove(key);
+        for (SubjectGrade other : subjectGrades) {
+            if (other != subjectGrade && Objects.equals(key, keyOf(other))) {
+                subjectsByName.put(key, other);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package classify.textfilecode;
+
+import classify.data.FieldScanner;
+import classify.student.Student;
+import classify.textfilecode.TextFileParser.ImportResult;
+import classify.textfilecode.TextFileParser.ImportRow;
+import classify.textfilecode.TextFileParser.StudentLookup;
+import classify.ui.UI;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+//@@author alalal47
+/**
+ * Processes every text file in the input folder at once.
+ * Each file is read and checked by its own task on the common fork-join pool, without touching the student list.
+ * The rows which passed are then added to the student list one file at a time, in order of file name,
+ * so the list is only ever changed from the calling thread.
+ * A summary is printed for every file with the number of students added, updated and rejected,
+ * and the time taken to read and add them.
+ */
+public class TextFileBatchProcessor {
+    private static final int FIRST_ROW_LINE = 3;
+    private static final String NO_TEXT_FILES_MESSAGE = "There are no text files in your input folder to process.";
+    private static final String PROCESSING_MESSAGE = "Processing %d text files from the input folder.";
+    private static final String FILE_SUMMARY = "%s (%s): %d added, %d updated, %d unchanged, %d rejected"
+            + " - read in %d ms, added in %d ms";
+    private static final String FILE_FAILED = "%s: %s";
+    private static final String REJECTED_ROW = "    Line %d: %s";
+    private static final String TOTAL_SUMMARY = "Processed %d files in %d ms: %d added, %d updated, %d unchanged,"
+            + " %d rejected.";
+    private static final String WRONG_FORMAT_MESSAGE = "Wrong format found in the first two lines. File skipped.";
+    private static final String ERROR_ACCESSING_THE_FILE = "Something went wrong while accessing the file. "
+            + "File skipped.";
+
+    /**
+     * Every row of a single text file, checked but not yet added to the student list.
+     */
+    static class ParsedTextFile {
+        private final String fileName;
+        private final List<ImportRow> rows = new ArrayList<>();
+        private final List<String> rejects = new ArrayList<>();
+        private String subjectName;
+        private int classesAttended;
+        private String failure;
+        private long readNanos;
+
+        private ParsedTextFile(String fileName) {
+            this.fileName = fileName;
+        }
+    }
+
+    /**
+     * Counts of what happened to the rows of a file once they were added to the student list.
+     */
+    static class FileSummary {
+        private int studentsAdded;
+        private int subjectsAdded;
+        private int unchanged;
+        private long addNanos;
+    }
+
+    /**
+     * Reads every text file in the folder in parallel, adds their students to the list and prints a summary.
+     *
+     * @param directory         Folder holding the text files
+     * @param masterStudentList StudentList where students will be added
+     */
+    public static void processAll(File directory, ArrayList<Student> masterStudentList) {
+        long startTime = System.nanoTime();
+        List<File> textFiles = findTextFiles(directory);
+        if (textFiles.isEmpty()) {
+            UI.println(NO_TEXT_FILES_MESSAGE);
+            return;
+        }
+        UI.println(String.format(PROCESSING_MESSAGE, textFiles.size()));
+
+        List<ParsedTextFile> parsedFiles = readAll(textFiles);
+
+        int studentsAdded = 0;
+        int subjectsAdded = 0;
+        int unchanged = 0;
+        int rejected = 0;
+        StudentLookup lookup = new StudentLookup(masterStudentList);
+        for (ParsedTextFile parsedFile : parsedFiles) {
+            if (parsedFile.failure != null) {
+                UI.println(String.format(FILE_FAILED, parsedFile.fileName, parsedFile.failure));
+                continue;
+            }
+            FileSummary summary = merge(parsedFile, masterStudentList, lookup);
+            printSummary(parsedFile, summary);
+            studentsAdded += summary.studentsAdded;
+            subjectsAdded += summary.subjectsAdded;
+            unchanged += summary.unchanged;
+            rejected += parsedFile.rejects.size();
+        }
+        UI.println(String.format(TOTAL_SUMMARY, parsedFiles.size(), toMillis(System.nanoTime() - startTime),
+                studentsAdded, subjectsAdded, unchanged, rejected));
+    }
+
+    private static List<File> findTextFiles(File directory) {
+        File[] files = directory.listFiles();
+        List<File> textFiles = new ArrayList<>();
+        if (files == null) {
+            return textFiles;
+        }
+        Arrays.sort(files, Comparator.comparing(File::getName));
+        for (File file : files) {
+            if (file.isFile() && TextFileParser.isTextFile(file.getName())) {
+                textFiles.add(file);
+            }
+        }
+        return textFiles;
+    }
+
+    /**
+     * Reads every file with one task per file, returning the results in the same order as the files.
+     */
+    private static List<ParsedTextFile> readAll(List<File> textFiles) {
+        List<Callable<ParsedTextFile>> tasks = new ArrayList<>();
+        for (File textFile : textFiles) {
+            tasks.add(() -> read(textFile));
+        }
+
+        List<ParsedTextFile> parsedFiles = new ArrayList<>();
+        List<Future<ParsedTextFile>> results = ForkJoinPool.commonPool().invokeAll(tasks);
+        for (int i = 0; i < results.size(); i++) {
+            try {
+                parsedFiles.add(results.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return parsedFiles;
+            } catch (ExecutionException e) {
+                ParsedTextFile failedFile = new ParsedTextFile(textFiles.get(i).getName());
+                failedFile.failure = ERROR_ACCESSING_THE_FILE;
+                parsedFiles.add(failedFile);
+            }
+        }
+        return parsedFiles;
+    }
+
+    /**
+     * Reads and checks every row of a text file, without changing the student list.
+     *
+     * @param textFile Text file to read
+     * @return The rows which passed the checks, and the reason every other row was rejected
+     */
+    static ParsedTextFile read(File textFile) {
+        long startTime = System.nanoTime();
+        ParsedTextFile parsedFile = new ParsedTextFile(textFile.getName());
+
+        try (BufferedReader reader = Files.newBufferedReader(textFile.toPath(), Charset.defaultCharset())) {
+            String firstLine = reader.readLine();
+            String secondLine = reader.readLine();
+            if (firstLine == null || secondLine == null) {
+                parsedFile.failure = WRONG_FORMAT_MESSAGE;
+                return parsedFile;
+            }
+            parsedFile.subjectName = TextFileParser.parseSubjectName(firstLine);
+            parsedFile.classesAttended = TextFileParser.parseClassesAttended(secondLine);
+
+            FieldScanner fields = new FieldScanner(TextFileParser.MAIN_REGEX);
+            int lineNumber = FIRST_ROW_LINE;
+            for (String line = reader.readLine(); line != null; line = reader.readLine(), lineNumber++) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                int rowLineNumber = lineNumber;
+                ImportRow row = TextFileParser.parseRow(line, fields,
+                        reason -> parsedFile.rejects.add(String.format(REJECTED_ROW, rowLineNumber, reason)));
+                if (row != null) {
+                    parsedFile.rows.add(row);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            parsedFile.failure = WRONG_FORMAT_MESSAGE;
+        } catch (IOException e) {
+            parsedFile.failure = ERROR_ACCESSING_THE_FILE;
+        }
+        parsedFile.readNanos = System.nanoTime() - startTime;
+        return parsedFile;
+    }
+
+    /**
+     * Adds every row of a file to the student list, in the order of the file.
+     *
+     * @param parsedFile        Rows of the file
+     * @param masterStudentList StudentList where students will be added
+     * @param lookup            Lookup of the students in masterStudentList, shared by every file
+     * @return Counts of what happened to the rows
+     */
+    static FileSummary merge(ParsedTextFile parsedFile, ArrayList<Student> masterStudentList,
+                             StudentLookup lookup) {
+        long startTime = System.nanoTime();
+        FileSummary summary = new FileSummary();
+        for (ImportRow row : parsedFile.rows) {
+            ImportResult result = TextFileParser.addImportedRow(masterStudentList, lookup, row,
+                    parsedFile.subjectName, parsedFile.classesAttended);
+            switch (result) {
+            case STUDENT_ADDED:
+                summary.studentsAdded++;
+                break;
+            case SUBJECT_ADDED:
+                summary.subjectsAdded++;
+                break;
+            default:
+                summary.unchanged++;
+                break;
+            }
+        }
+        summary.addNanos = System.nanoTime() - startTime;
+        return summary;
+    }
+
+    private static void printSummary(ParsedTextFile parsedFile, FileSummary summary) {
+        UI.println(String.format(FILE_SUMMARY, parsedFile.fileName, parsedFile.subjectName, summary.studentsAdded,
+                summary.subjectsAdded, summary.unchanged, parsedFile.rejects.size(),
+                toMillis(parsedFile.readNanos), toMillis(summary.addNanos)));
+        for (String reject : parsedFile.rejects) {
+            UI.println(reject);
+        }
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
@@ -2,6 +2,7 @@ package classify.textfilecode;
 
 import classify.student.Student;
 import classify.ui.UI;
+import classify.user.InputSource;
 
 import java.io.File;
 import java.io.IOException;
@@ -11,7 +12,6 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Scanner;
 
 //@@author ParthGandhiNUS
 public class TextFileHandler {
@@ -23,14 +23,35 @@ public class TextFileHandler {
     private static final String INVALID_PATH_MESSAGE = "Path is invalid!";
     private static final String NOT_TEXT_FILE_MESSAGE = "Files in your inputFolder are not Text Files!";
     private static final String ADD_TEXT_FILE_MESSAGE = "Add some text files and try processing again!";
+    private static final String PROCESS_ALL = "all";
+
+    //@@author alalal47
+    /**
+     * Runs the process command, processing every text file in the input folder at once if the argument is "all",
+     * or asking the user for a single file otherwise.
+     *
+     * @param masterStudentList     StudentList where students will be added
+     * @param in                    InputSource of the users' inputs
+     * @param argument              Argument given after the command, or null if there is none
+     */
+    public static void process(ArrayList<Student> masterStudentList, InputSource in, String argument) {
+        if (argument != null && argument.trim().equalsIgnoreCase(PROCESS_ALL)) {
+            createTextFileDirectory(INPUT_TEXT_FILE_DIRECTORY);
+            TextFileBatchProcessor.processAll(CURRENT_DIRECTORY, masterStudentList);
+            return;
+        }
+        process(masterStudentList, in);
+    }
+
+    //@@author ParthGandhiNUS
 
     /**
      * Function runs the whole process command, from every input all the way to the final output
      * 
      * @param masterStudentList     StudentList where students will be added
-     * @param in                    Scanner which scans for the users' inputs
+     * @param in                    InputSource of the users' inputs
      */
-    public static void process(ArrayList<Student> masterStudentList, Scanner in) {
+    public static void process(ArrayList<Student> masterStudentList, InputSource in) {
         createTextFileDirectory(INPUT_TEXT_FILE_DIRECTORY);
         // Print out the current files in your folder
         UI.println(CURRENT_FILES);
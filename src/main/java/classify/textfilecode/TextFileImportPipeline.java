@@ -0,0 +1,205 @@
+package classify.textfilecode;
+
+import classify.data.FieldScanner;
+import classify.student.Student;
+import classify.textfilecode.TextFileParser.ImportRow;
+import classify.textfilecode.TextFileParser.StudentLookup;
+import classify.ui.UI;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+//@@author alalal47
+/**
+ * Streams the rows of a text file into the student list through three stages, so that files of any size
+ * can be processed without holding the whole file in memory.
+ * A reader thread reads the file in batches of lines, a parser thread checks each batch and turns it into
+ * rows, and the calling thread adds the rows to the student list.
+ * The stages are joined by small bounded queues, so a stage which gets ahead of the next one waits for it,
+ * and no more than a few batches are held in memory at any time.
+ * Rejected rows are reported and rows are added in the same order as in the file, and the number of rows
+ * processed so far is printed every progressInterval rows.
+ */
+public class TextFileImportPipeline {
+    static final int BATCH_SIZE = 1024;
+    static final int QUEUE_CAPACITY = 4;
+    static final int DEFAULT_PROGRESS_INTERVAL = 100000;
+    private static final String PROGRESS_MESSAGE = "Processed %d rows so far.";
+
+    private final BufferedReader reader;
+    private final String subjectName;
+    private final int classesAttended;
+    private final int progressInterval;
+    private final BlockingQueue<Batch> lineBatches = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final BlockingQueue<Batch> rowBatches = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private long rowCount = 0;
+    private long nextProgress;
+
+    /**
+     * A batch of consecutive lines of the file, passed from one stage to the next.
+     * The parser stage fills in the rows and rejects. The last batch of the file is marked as such,
+     * and carries the error which stopped the reader, if any.
+     */
+    private static class Batch {
+        private final List<String> lines;
+        private final List<ImportRow> rows = new ArrayList<>();
+        private final List<String> rejects = new ArrayList<>();
+        private boolean isLast;
+        private IOException failure;
+
+        private Batch(List<String> lines) {
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * Creates a pipeline for the rows of a text file whose subject and classes attended lines were already read.
+     *
+     * @param reader           Reader positioned at the first row of the file
+     * @param subjectName      Common subject of the students
+     * @param classesAttended  Common number of classes attended
+     * @param progressInterval Number of rows between progress messages
+     */
+    public TextFileImportPipeline(BufferedReader reader, String subjectName, int classesAttended,
+                                  int progressInterval) {
+        assert progressInterval > 0 : "Progress should be reported after a positive number of rows";
+        this.reader = reader;
+        this.subjectName = subjectName;
+        this.classesAttended = classesAttended;
+        this.progressInterval = progressInterval;
+    }
+
+    /**
+     * Adds every row of the file to the student list, printing the reason any row is skipped.
+     *
+     * @param masterStudentList StudentList where students will be added
+     * @return Number of rows read from the file, not counting blank lines
+     * @throws IOException Thrown when the file could not be read. Rows before the error are still added.
+     */
+    public long run(ArrayList<Student> masterStudentList) throws IOException {
+        Thread readerThread = new Thread(this::readLines, "classify-import-reader");
+        Thread parserThread = new Thread(this::parseLines, "classify-import-parser");
+        readerThread.setDaemon(true);
+        parserThread.setDaemon(true);
+        readerThread.start();
+        parserThread.start();
+
+        try {
+            return applyRows(masterStudentList);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Processing was interrupted", e);
+        } finally {
+            readerThread.interrupt();
+            parserThread.interrupt();
+        }
+    }
+
+    /**
+     * Reader stage, which reads the file a batch of lines at a time.
+     */
+    private void readLines() {
+        try {
+            while (true) {
+                List<String> lines = new ArrayList<>(BATCH_SIZE);
+                Batch batch = new Batch(lines);
+                try {
+                    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                        lines.add(line);
+                        if (lines.size() == BATCH_SIZE) {
+                            break;
+                        }
+                    }
+                    batch.isLast = lines.size() < BATCH_SIZE;
+                } catch (IOException e) {
+                    batch.isLast = true;
+                    batch.failure = e;
+                }
+                lineBatches.put(batch);
+                if (batch.isLast) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // The apply stage has stopped, so there is nobody left to read for
+        }
+    }
+
+    /**
+     * Parser stage, which checks every line of each batch and turns it into a row or a rejection.
+     */
+    private void parseLines() {
+        FieldScanner fields = new FieldScanner(TextFileParser.MAIN_REGEX);
+        try {
+            while (true) {
+                Batch batch = lineBatches.take();
+                try {
+                    parseBatch(batch, fields);
+                } catch (RuntimeException e) {
+                    batch.isLast = true;
+                    batch.failure = new IOException(e);
+                }
+                rowBatches.put(batch);
+                if (batch.isLast) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            // The apply stage has stopped, so there is nobody left to parse for
+        }
+    }
+
+    private static void parseBatch(Batch batch, FieldScanner fields) {
+        for (String line : batch.lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            ImportRow row = TextFileParser.parseRow(line, fields, batch.rejects::add);
+            if (row != null) {
+                batch.rows.add(row);
+            }
+        }
+    }
+
+    /**
+     * Apply stage, which runs on the calling thread so that the student list is only changed from one thread.
+     */
+    private long applyRows(ArrayList<Student> masterStudentList) throws InterruptedException, IOException {
+        StudentLookup lookup = new StudentLookup(masterStudentList);
+        nextProgress = progressInterval;
+
+        while (true) {
+            Batch batch = rowBatches.take();
+            for (String reject : batch.rejects) {
+                UI.println(reject);
+                countRow();
+            }
+            for (ImportRow row : batch.rows) {
+                TextFileParser.addImportedRow(masterStudentList, lookup, row, subjectName, classesAttended);
+                countRow();
+            }
+            if (batch.failure != null) {
+                throw batch.failure;
+            }
+            if (batch.isLast) {
+                return rowCount;
+            }
+        }
+    }
+
+    /**
+     * Counts a row as processed, printing the progress if it is a multiple of progressInterval.
+     * Rejected rows of a batch are counted before its added rows, as their reasons are printed first.
+     */
+    private void countRow() {
+        rowCount++;
+        if (rowCount == nextProgress) {
+            UI.println(String.format(PROGRESS_MESSAGE, rowCount));
+            nextProgress += progressInterval;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package classify.textfilecode;
 
 import classify.commands.AddStudent;
+import classify.data.DataHandler;
+import classify.data.FieldScanner;
+import classify.student.IndexedStudentList;
 import classify.student.Student;
 import classify.student.SubjectGrade;
 import classify.ui.UI;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 import classify.user.InvalidCharacterException;
 
 import java.io.BufferedReader;
@@ -13,12 +17,14 @@ import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.function.Consumer;
 
 //@@author ParthGandhiNUS
 public class TextFileParser {
-    private static final String MAIN_REGEX = "~~";
+    static final String MAIN_REGEX = "~~";
     private static final String FILE_SELECTION_PROMPT = "Please enter the exact name of the file " +
             "you'd like to process:";
     private static final String REQUEST_TO_TRY_AGAIN = "Please try again!";
@@ -37,6 +43,70 @@ public class TextFileParser {
     private static final String INVALID_PHONE_NUMBER_MESSAGE="'s phone number is not a valid Singapore phone number." +
         " Please edit this students' phone number with the edit command!";
     private static final String EXIT_INTERFACE = "Exiting interface.";
+    private static final String INVALID_NUMBER_ENTRY_MESSAGE = "Invalid number found. Skipping entry.";
+    private static final String MISSING_DATA_MESSAGE = "Missing data found. Skipping entry.";
+
+    //@@author alalal47
+    /**
+     * Result of adding a single row of a text file to the student list.
+     */
+    enum ImportResult {
+        /** A new student was added to the list. */
+        STUDENT_ADDED,
+        /** The subject was added to a student already in the list. */
+        SUBJECT_ADDED,
+        /** The student in the list already takes the subject, so nothing was changed. */
+        UNCHANGED
+    }
+
+    /**
+     * A row of a text file which passed every check, ready to be added to the student list.
+     */
+    static class ImportRow {
+        private final String name;
+        private final Student student;
+        private final int phoneNumber;
+        private final double grade;
+
+        private ImportRow(String name, Student student, int phoneNumber, double grade) {
+            this.name = name;
+            this.student = student;
+            this.phoneNumber = phoneNumber;
+            this.grade = grade;
+        }
+    }
+
+    /**
+     * Students of the list being imported into, found by their name, ignoring case, and phone number.
+     * The lookup is built once for each import and updated as new students are added, so every imported row
+     * is matched in constant time instead of by scanning the whole list.
+     */
+    static class StudentLookup {
+        private final Map<String, Student> studentsByNameNumber = new HashMap<>();
+
+        StudentLookup(List<Student> students) {
+            for (Student student : students) {
+                add(student);
+            }
+        }
+
+        /**
+         * Adds a student to the lookup, unless an earlier student has the same name and phone number.
+         */
+        void add(Student student) {
+            studentsByNameNumber.putIfAbsent(
+                    IndexedStudentList.toNameNumberKey(student.getName(), student.getPhoneNumber()), student);
+        }
+
+        /**
+         * Returns the first student in the list with the name, ignoring case, and phone number, or null if none.
+         */
+        Student find(String name, int phoneNumber) {
+            return studentsByNameNumber.get(IndexedStudentList.toNameNumberKey(name, phoneNumber));
+        }
+    }
+
+    //@@author ParthGandhiNUS
 
     /**
      * Boolean that checks for the filetype of the files.
@@ -75,10 +145,10 @@ public class TextFileParser {
      * If file is not found, user is prompted for other files.
      *
      * @param currentDirectory Directory containing the contents inside inputFolder
-     * @param in Scanner to scan users' inputs
+     * @param in InputSource of the users' inputs
      * @param masterStudentList StudentList where students will be added.
      */
-    public static void parseUserSelection(File currentDirectory, Scanner in, ArrayList<Student> masterStudentList) {
+    public static void parseUserSelection(File currentDirectory, InputSource in, ArrayList<Student> masterStudentList) {
         File[] fileList = currentDirectory.listFiles();
         String userInput = in.nextLine();
 
@@ -150,18 +220,13 @@ public class TextFileParser {
      */
     private static void fetchDataFromTextFile(BufferedReader line, ArrayList <Student> masterStudentList) {
         try {
-            String firstLine = line.readLine();
-            String [] subjectInfoStrings = firstLine.split(SUBJECT_REGEX);
-            String subjectName = subjectInfoStrings[1].trim();
-
-            String secondLine = line.readLine();
-            String [] classInfoStrings = secondLine.split(CLASSES_ATTENDED_REGEX);
-            int totalClassesAttended = Integer.parseInt(classInfoStrings[1].trim());
+            String subjectName = parseSubjectName(line.readLine());
+            int totalClassesAttended = parseClassesAttended(line.readLine());
 
-            while (line.ready()) {
-                String input = line.readLine();
-                deconstructTextFile(input, subjectName, totalClassesAttended, masterStudentList);
-            }
+            //@@author alalal47
+            new TextFileImportPipeline(line, subjectName, totalClassesAttended,
+                    TextFileImportPipeline.DEFAULT_PROGRESS_INTERVAL).run(masterStudentList);
+            //@@author ParthGandhiNUS
         } catch (IOException e) {
             UI.println(ERROR_ACCESSING_THE_FILE);
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -171,51 +236,89 @@ public class TextFileParser {
         }
     }
 
+    //@@author alalal47
     /**
-     * Adds the new students into the student list and adds their subject, grade, and classes attended.
-     * Default value is used for gender, phone number, remarks.
+     * Reads the subject name from the first line of a text file, such as "Subject: Math".
      *
-     * @param textFileInput Every line of the text file with the students' information
-     * @param subjectName Common subject of the students
-     * @param classesAttended Common number of classes attended
-     * @param masterStudentList StudentList where students will be added.
+     * @param firstLine First line of the text file
+     * @return Name of the subject taken by every student in the file
+     * @throws ArrayIndexOutOfBoundsException Thrown when the line has no subject name
      */
-    private static void deconstructTextFile (String textFileInput, String subjectName,
-                                        Integer classesAttended, ArrayList <Student> masterStudentList) {
-        if (textFileInput.trim().isBlank()) {
-            return;
-        }
-        String [] inputArr = textFileInput.split(MAIN_REGEX);
+    static String parseSubjectName(String firstLine) throws ArrayIndexOutOfBoundsException {
+        return new FieldScanner(SUBJECT_REGEX).reset(firstLine).getString(1);
+    }
+
+    /**
+     * Reads the number of classes attended from the second line of a text file, such as "Classes Attended: 12".
+     *
+     * @param secondLine Second line of the text file
+     * @return Number of classes attended by every student in the file
+     * @throws ArrayIndexOutOfBoundsException Thrown when the line has no number of classes
+     * @throws NumberFormatException          Thrown when the number of classes is not a number
+     */
+    static int parseClassesAttended(String secondLine) throws ArrayIndexOutOfBoundsException, NumberFormatException {
+        return new FieldScanner(CLASSES_ATTENDED_REGEX).reset(secondLine).getInt(1);
+    }
 
+    /**
+     * Checks a row of a text file and reads the student's name, phone number and grade from it.
+     * Rows which fail a check are skipped, and the reason is passed to the given consumer.
+     *
+     * @param textFileInput Line of the text file with the student's information
+     * @param fields        Scanner used to split the line into fields
+     * @param rejects       Receives the reason a row was skipped
+     * @return The row, or null if it was skipped
+     */
+    static ImportRow parseRow(String textFileInput, FieldScanner fields, Consumer<String> rejects) {
+        fields.reset(textFileInput);
 
+        //@@author ParthGandhiNUS
         try {
             //Set Name
-            String studentNameString = AddStudent.splitName(inputArr[NAME].trim());
+            String studentNameString = AddStudent.splitName(fields.getString(NAME));
             Student student = new Student(studentNameString);
             InputParsing.checkForSpecialCharacters(student.getName());
             //Set phone_number
-            int phoneNumber = Integer.parseInt(inputArr[PHONE_NUMBER].trim());
+            int phoneNumber = fields.getInt(PHONE_NUMBER);
 
             if (!InputParsing.isValidNumber(phoneNumber)) {
-                UI.println("Invalid number found. Skipping entry.");
-                return;
+                rejects.accept(INVALID_NUMBER_ENTRY_MESSAGE);
+                return null;
             }
             //Set grades
-            double subjectGrades = Double.parseDouble(inputArr[GRADE_FOR_SUBJECT].trim());
-            //Put Everything together
-            SubjectGrade newSubject = new SubjectGrade(subjectName, subjectGrades, classesAttended);
-            //Adding the student / Subject in existing student
-            masterStudentListAddition(masterStudentList, studentNameString, student, phoneNumber,
-                    subjectName, newSubject);
+            double subjectGrades = fields.getDouble(GRADE_FOR_SUBJECT);
+            return new ImportRow(studentNameString, student, phoneNumber, subjectGrades);
         } catch (InvalidCharacterException e) {
-            UI.println(INVALID_CHAR_MESSAGE);
+            rejects.accept(INVALID_CHAR_MESSAGE);
         } catch (NumberFormatException e) {
-            UI.println(INVALID_NUMBER_MESSAGE);
+            rejects.accept(INVALID_NUMBER_MESSAGE);
         } catch (ArrayIndexOutOfBoundsException e) {
-            UI.println("Missing data found. Skipping entry.");
+            rejects.accept(MISSING_DATA_MESSAGE);
         }
+        return null;
     }
 
+    //@@author alalal47
+    /**
+     * Adds a row of a text file to the student list, either as a new student or as a new subject of
+     * the student with the same name and phone number.
+     *
+     * @param masterStudentList StudentList where students will be added
+     * @param lookup            Lookup of the students in masterStudentList
+     * @param row               Row of the text file
+     * @param subjectName       Common subject of the students
+     * @param classesAttended   Common number of classes attended
+     * @return What was changed in the list
+     */
+    static ImportResult addImportedRow(ArrayList<Student> masterStudentList, StudentLookup lookup, ImportRow row,
+                                       String subjectName, int classesAttended) {
+        SubjectGrade newSubject = new SubjectGrade(subjectName, row.grade, classesAttended);
+        return masterStudentListAddition(masterStudentList, lookup, row.name, row.student, row.phoneNumber,
+                subjectName, newSubject);
+    }
+
+    //@@author ParthGandhiNUS
+
     /**
      * This method checks for a current student in the list.
      * It adds a new student and the applicable attributes if a student with the same name and number
@@ -223,24 +326,35 @@ public class TextFileParser {
      * It adds a new subject attributes if a student with the same name and number is found in the list.
      * 
      * @param masterStudentList StudentList where students will be added
+     * @param lookup Lookup of the students in masterStudentList
      * @param studentNameString Name of the student
      * @param student Instance of Student 
      * @param phoneNumber Phone number of the student
      * @param newSubject Instance of subject to be added
+     * @return What was changed in the list
      */
-    private static void masterStudentListAddition(ArrayList<Student> masterStudentList, String studentNameString,
-                                                  Student student,int phoneNumber, String subjectName,
-                                                  SubjectGrade newSubject) {
-        if (isMatchingNameNumber (masterStudentList, studentNameString, phoneNumber)) {
-            Integer indexOfStudent = matchingStudentIndex(masterStudentList, studentNameString, phoneNumber);
-            if (!(isMatchingSubject(masterStudentList, subjectName, indexOfStudent))) {
-                masterStudentList.get(indexOfStudent).getAttributes().addSubjectGrade(newSubject);
+    private static ImportResult masterStudentListAddition(ArrayList<Student> masterStudentList,
+                                                          StudentLookup lookup, String studentNameString,
+                                                          Student student, int phoneNumber, String subjectName,
+                                                          SubjectGrade newSubject) {
+        //@@author alalal47
+        Student existingStudent = lookup.find(studentNameString, phoneNumber);
+        //@@author ParthGandhiNUS
+        if (existingStudent != null) {
+            if (existingStudent.getAttributes().findSubject(subjectName) == null) {
+                existingStudent.getAttributes().addSubjectGrade(newSubject);
+                DataHandler.recordUpdated(masterStudentList, existingStudent.getName(),
+                        existingStudent.getPhoneNumber(), existingStudent);
+                return ImportResult.SUBJECT_ADDED;
             }
-        } else {
-            masterStudentList.add(student);
-            addPhoneNumber(studentNameString, student, phoneNumber);
-            student.getAttributes().addSubjectGrade(newSubject);
+            return ImportResult.UNCHANGED;
         }
+        masterStudentList.add(student);
+        addPhoneNumber(studentNameString, student, phoneNumber);
+        student.getAttributes().addSubjectGrade(newSubject);
+        lookup.add(student);
+        DataHandler.recordAdded(masterStudentList, student);
+        return ImportResult.STUDENT_ADDED;
     }
 
     /**
@@ -257,62 +371,4 @@ public class TextFileParser {
             UI.println(studentNameString + INVALID_PHONE_NUMBER_MESSAGE);
         }
     }
-
-    /**
-     * Function returns the index of the matching student in the masterStudentList.
-     * 
-     * @param masterStudentList List to check through for the name and number
-     * @param name              Name of the student to find
-     * @param number            Phone number of the student to find.
-     * @return                  Index of the student in masterStudentList
-     */
-    static Integer matchingStudentIndex(ArrayList<Student> masterStudentList, String name, int number) {
-        int listSize = masterStudentList.size();
-
-        for (int i = 0; i < listSize; i++) {
-            if (masterStudentList.get(i).getName().equalsIgnoreCase(name) && 
-                masterStudentList.get(i).getPhoneNumber() == number) {
-                return i;
-            }
-        }
-        return -1;
-    }
-    
-    /**
-     * Checks if the subject we are trying to add is already a subject that the student is taking. 
-     * Returns true if student takes that subject and false otherwise.
-     * 
-     * @param masterStudentList List to obtain student
-     * @param subjectName name of the subject that is getting added
-     * @return True if subject is found attributed to that particular student. False otherwise.
-     */
-    static boolean isMatchingSubject(ArrayList<Student> masterStudentList, String subjectName,
-                                           Integer indexOfStudent) {
-        List<SubjectGrade> studentSubjects = masterStudentList.get(indexOfStudent).getAttributes().getSubjectGrades();
-        for (SubjectGrade subject : studentSubjects) {
-            if (subject.getSubject().equalsIgnoreCase(subjectName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-        
-
-    //@@author Cryolian
-    /**
-     * Function checks if a name and number pair already exists in a given list.
-     * 
-     * @param masterStudentList  List to check through for the name and number
-     * @param name               Name of the student to find
-     * @param number             Phone number of the student to find.
-     * @return                   True if a student with the same name and number is found in the list,false otherwise.
-     */
-    static boolean isMatchingNameNumber(ArrayList<Student> masterStudentList, String name, int number) {
-        for (Student student : masterStudentList) {
-            if (student.getName().equalsIgnoreCase(name) && student.getPhoneNumber() == number) {
-                return true;
-            }
-        }
-        return false;
-    } 
 }
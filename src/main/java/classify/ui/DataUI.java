@@ -35,6 +35,8 @@ public class DataUI extends UI {
             "Type CONFIRM if so.";
     private static final String CORRUPTION_DELETION_CONFIRMATION_WARNING = "WARNING! THIS ACTION IS IRREVERSIBLE!";
     private static final String DELETION_COMPLETED = "All existing student information has been deleted!";
+    private static final String CONVERSION_COMPLETED = "Data files are now saved in the %s format.";
+    private static final String INVALID_DATA_FORMAT = "Please enter either convert binary or convert text.";
     private static final String IMPORTANT_TEXT_BORDER = "-----------------------------------------------------" +
             "-----------------------------------------------------";
 
@@ -127,4 +129,12 @@ public class DataUI extends UI {
     public static void printFileDeletionCompleteMessage() {
         System.out.println(DELETION_COMPLETED);
     }
+
+    public static void printConversionCompleteMessage(String format) {
+        System.out.println(String.format(CONVERSION_COMPLETED, format));
+    }
+
+    public static void printInvalidDataFormatMessage() {
+        System.out.println(INVALID_DATA_FORMAT);
+    }
 }
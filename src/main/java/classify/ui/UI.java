@@ -2,10 +2,25 @@ package classify.ui;
 
 import classify.student.Student;
 
-import java.util.ArrayList;
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
 
 //@@author Cryolian
 public class UI {
+    //@@author alalal47
+    private static final int CONSOLE_BUFFER_SIZE = 1 << 16;
+    private static final int MAX_KEPT_LINES_CAPACITY = 1 << 20;
+    private static final StringBuilder lines = new StringBuilder();
+
+    //@@author Cryolian
     public static final String TOTAL_CLASSES_ATTENDED_ACROSS_ALL_SUBJECTS = "Total classes " +
             "attended across all subjects: ";
     public static final String DIVIDER = "~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~~";
@@ -116,9 +131,28 @@ public class UI {
         System.out.println();
         printProcessTextFileHelpMessage();
         System.out.println();
+        printConvertHelpMessage();
+        System.out.println();
+        printStatsHelpMessage();
+        System.out.println();
         printHelpHelpMessage();
     }
 
+    //@@author alalal47
+    private static void printConvertHelpMessage() {
+        System.out.println("convert" +
+                "\n    Saves the data files in the binary" +
+                "\n    or the text format, expects a format," +
+                "\n    e.g. convert binary or convert text");
+    }
+
+    private static void printStatsHelpMessage() {
+        System.out.println("stats" +
+                "\n    Shows how long each command has taken," +
+                "\n    and the time spent loading and saving data");
+    }
+
+    //@@author ParthGandhiNUS
     private static void printHelpHelpMessage() {
         System.out.println("help" +
                 "\n    Prints this help message");
@@ -179,6 +213,11 @@ public class UI {
         System.out.println("    The archived list" +
                 "\n    The recently deleted list" +
                 "\n    By certain subject only");
+        //@@author alalal47
+        System.out.println("    Use 'list --page N --size M' to show one page of students," +
+                "\n    or 'list --top K --by classes/payment' to show the students" +
+                "\n    with the fewest classes or the least recent payment");
+        //@@ author Cryolian
     }
 
     private static void printDeleteHelpMessage() {
@@ -193,7 +232,9 @@ public class UI {
         System.out.println("view" +
                 "\n    Views a students details, expects a name," +
                 "\n    can be used directly with a name" +
-                "\n    e.g. view [name]");
+                "\n    e.g. view [name]" +
+                "\n    or the start of a name, e.g. view [start of name]*," +
+                "\n    or a phone number, e.g. view #98765432");
     }
 
     private static void printEditHelpMessage() {
@@ -239,7 +280,9 @@ public class UI {
                 "\n    Processes a text file containing" +
                 "\n    a list of students" +
                 "\n    taking the same subject and the" +
-                "\n    same number of classes.");
+                "\n    same number of classes." +
+                "\n    Use 'process all' to process every" +
+                "\n    text file in the input folder.");
     }
 
     //@@author blackmirag3
@@ -358,11 +401,15 @@ public class UI {
     }
 
     //@@ author tayponghee
-    public static void printStudentList(ArrayList<Student> students) {
+    public static void printStudentList(List<Student> students) {
         System.out.println("List of Students:");
+        //@@author alalal47
+        StringBuilder studentLines = startLines();
         for (int i = 0; i < students.size(); i++) {
-            System.out.println((i + 1) + ". " + students.get(i).getName());
+            studentLines.append(i + 1).append(". ").append(students.get(i).getName()).append(System.lineSeparator());
         }
+        printLines(studentLines);
+        //@@author tayponghee
         System.out.println("Currently, there are " + students.size() + " students in the list.");
         UI.printDivider();
     }
@@ -440,6 +487,105 @@ public class UI {
         System.out.println(text);
     }
 
+    //@@author alalal47
+    /**
+     * Sends everything printed to the console through one large buffer, which is written out when the
+     * program waits for input, at the end of each command, before anything is written to System.err,
+     * or when the buffer is full, instead of once for every line.
+     * Log messages and errors therefore still appear after the output printed before them.
+     * Output still in the buffer is lost if the program ends through System.exit or Runtime.halt
+     * without reaching the end of Classify.main.
+     * Should be called once, before anything reading from System.in or logging is created.
+     */
+    public static void useBufferedConsole() {
+        OutputStream console = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), CONSOLE_BUFFER_SIZE);
+        System.setOut(new PrintStream(console, false));
+        System.setErr(new PrintStream(new FlushingOutputStream(System.err), true));
+        System.setIn(new FlushingInputStream(System.in));
+    }
+
+    /**
+     * Writes out everything printed to the console so far.
+     */
+    public static void flush() {
+        System.out.flush();
+    }
+
+    /**
+     * Returns an empty builder to format many lines into, which can then be printed at once with printLines.
+     * The same builder is reused for every list, so it should be printed before startLines is called again.
+     *
+     * @return Empty builder for the lines to print
+     */
+    public static StringBuilder startLines() {
+        lines.setLength(0);
+        return lines;
+    }
+
+    /**
+     * Prints lines formatted into a builder from startLines in a single write.
+     *
+     * @param formattedLines Lines to print, each ending with a line separator
+     */
+    public static void printLines(StringBuilder formattedLines) {
+        System.out.print(formattedLines);
+        formattedLines.setLength(0);
+        if (formattedLines.capacity() > MAX_KEPT_LINES_CAPACITY) {
+            formattedLines.trimToSize();
+        }
+    }
+
+    /**
+     * Input which writes out the console output before waiting for more input, so that every prompt is
+     * shown before the user has to answer it.
+     */
+    private static class FlushingInputStream extends FilterInputStream {
+        private FlushingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            flush();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            flush();
+            return super.read(buffer, offset, length);
+        }
+    }
+
+    /**
+     * Writes out the console buffer before anything is written to the stream, so that errors and log messages
+     * are never shown ahead of output printed before them.
+     */
+    private static class FlushingOutputStream extends FilterOutputStream {
+        private FlushingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            UI.flush();
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            UI.flush();
+            out.write(buffer, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            UI.flush();
+            out.flush();
+        }
+    }
+
+    //@@author tayponghee
     public static void printAddSubject() {
         System.out.println(ADD_SUBJECT);
     }
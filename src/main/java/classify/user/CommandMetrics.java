@@ -0,0 +1,146 @@
+package classify.user;
+
+import classify.data.DataReader;
+import classify.data.DataWriter;
+import classify.ui.UI;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+//@@author alalal47
+/**
+ * Times how long each step of a command takes: reading what was typed, running the command, and saving
+ * afterwards. Each kind of command has its own LatencyHistogram, so the stats command can show where time
+ * goes. Time spent waiting for the user to type an answer is left out of the time of a command.
+ * Counters of the data files loaded and saved are kept by DataReader and DataWriter.
+ */
+public class CommandMetrics {
+    /** Name under which commands that do not exist are timed, so typos do not each get a histogram. */
+    public static final String INVALID_COMMAND = "(invalid)";
+    private static final String PARSE = "(parse)";
+    private static final String SAVE = "(save)";
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final String ROW_FORMAT = "%-12s %8s %10s %10s %10s";
+
+    private static final Map<String, LatencyHistogram> histograms = new HashMap<>();
+
+    /**
+     * Times the running of a command, which excludes reading the command itself and saving afterwards.
+     *
+     * @param command  Name of the command, or INVALID_COMMAND.
+     * @param duration Time taken, in nanoseconds.
+     */
+    public static void recordCommand(String command, long duration) {
+        getHistogram(command).record(duration);
+    }
+
+    /**
+     * Times the splitting of a typed line into a command and its argument.
+     *
+     * @param duration Time taken, in nanoseconds.
+     */
+    public static void recordParse(long duration) {
+        getHistogram(PARSE).record(duration);
+    }
+
+    /**
+     * Times the saving of changes after a command.
+     *
+     * @param duration Time taken, in nanoseconds.
+     */
+    public static void recordSave(long duration) {
+        getHistogram(SAVE).record(duration);
+    }
+
+    /**
+     * Returns the histogram of a command or step, creating it if it has not been timed yet.
+     *
+     * @param name Name of the command or step.
+     * @return Histogram of the time taken.
+     */
+    static LatencyHistogram getHistogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Removes every time recorded so far.
+     */
+    static void clear() {
+        histograms.clear();
+    }
+
+    /**
+     * Prints the number of times each command was run with its median, 99th percentile and longest time,
+     * followed by the time spent loading and saving the data files.
+     */
+    public static void printStats() {
+        StringBuilder lines = UI.startLines();
+        lines.append(String.format(Locale.ROOT, ROW_FORMAT, "Command", "Count", "p50 (us)", "p99 (us)",
+                "max (us)")).append(System.lineSeparator());
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            LatencyHistogram histogram = entry.getValue();
+            lines.append(String.format(Locale.ROOT, ROW_FORMAT, entry.getKey(), histogram.getCount(),
+                    toMicros(histogram.getPercentile(50)), toMicros(histogram.getPercentile(99)),
+                    toMicros(histogram.getMax()))).append(System.lineSeparator());
+        }
+        lines.append(String.format(Locale.ROOT, "Loaded %d students in %.1f ms", DataReader.getLoadedStudentCount(),
+                DataReader.getLoadNanos() / NANOS_PER_MILLI)).append(System.lineSeparator());
+        lines.append(String.format(Locale.ROOT, "Saved %d times, %d bytes in %.1f ms", DataWriter.getSaveCount(),
+                DataWriter.getSavedBytes(), DataWriter.getSaveNanos() / NANOS_PER_MILLI))
+                .append(System.lineSeparator());
+        UI.printLines(lines);
+    }
+
+    private static String toMicros(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / NANOS_PER_MICRO);
+    }
+
+    /**
+     * Returns every number shown by printStats as "name=value" lines, with times in nanoseconds.
+     *
+     * @return Lines of metrics, each ending with a newline.
+     */
+    static String formatMetrics() {
+        StringBuilder metrics = new StringBuilder();
+        for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(histograms).entrySet()) {
+            String prefix = "command." + entry.getKey() + '.';
+            LatencyHistogram histogram = entry.getValue();
+            appendMetric(metrics, prefix + "count", histogram.getCount());
+            appendMetric(metrics, prefix + "mean_ns", Math.round(histogram.getMean()));
+            appendMetric(metrics, prefix + "p50_ns", histogram.getPercentile(50));
+            appendMetric(metrics, prefix + "p90_ns", histogram.getPercentile(90));
+            appendMetric(metrics, prefix + "p99_ns", histogram.getPercentile(99));
+            appendMetric(metrics, prefix + "max_ns", histogram.getMax());
+        }
+        appendMetric(metrics, "load.students", DataReader.getLoadedStudentCount());
+        appendMetric(metrics, "load.duration_ns", DataReader.getLoadNanos());
+        appendMetric(metrics, "save.count", DataWriter.getSaveCount());
+        appendMetric(metrics, "save.bytes", DataWriter.getSavedBytes());
+        appendMetric(metrics, "save.duration_ns", DataWriter.getSaveNanos());
+        return metrics.toString();
+    }
+
+    private static void appendMetric(StringBuilder metrics, String name, long value) {
+        metrics.append(name).append('=').append(value).append('\n');
+    }
+
+    /**
+     * Writes every number shown by printStats to a file, replacing anything already in it.
+     *
+     * @param path Path of the metrics file.
+     */
+    public static void writeMetricsFile(Path path) {
+        try {
+            Files.write(path, formatMetrics().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            UI.println("Could not write the metrics file " + path);
+        }
+    }
+}
@@ -7,21 +7,33 @@ import classify.commands.EditStudent;
 import classify.commands.ListStudentsCommand;
 import classify.commands.StudentSorter;
 import classify.commands.ViewStudent;
+import classify.data.DataHandler;
+import classify.student.IndexedStudentList;
 import classify.student.Student;
+import classify.student.StudentList;
+import classify.student.StudentNameIndex;
 import classify.textfilecode.TextFileHandler;
+import classify.ui.DataUI;
 import classify.ui.UI;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
 import java.util.ArrayList;
-import java.util.Scanner;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class InputParsing {
     public static final String DEFAULT_STRING_VALUE = "Unknown";
     public static final Logger LOGGER = Logger.getLogger(InputParsing.class.getName());
+    private static final String NAME_WILDCARD = "*";
+    private static final String PHONE_NUMBER_MARKER = "#";
+    private static final int MAX_PREFIX_MATCHES = 20;
+    private static final int MAX_SIMILAR_NAMES = 5;
+    private static final int MAX_NAME_TYPOS = 2;
+    private static final int NAME_LETTERS_PER_TYPO = 3;
     private static final String EARLIER_POSSIBLE_DATE = "1970-01-01";
     private static final String BYE = "bye";
     private static final String LIST = "list";
@@ -37,6 +49,12 @@ public class InputParsing {
     private static final String ARCHIVE = "archive";
     private static final String UNARCHIVE = "unarchive";
     private static final String EXIT = "exit";
+    private static final String CONVERT = "convert";
+    private static final String STATS = "stats";
+    private static final Set<String> COMMANDS = Set.of(BYE, LIST, PROCESS_FILE, ADD, VIEW, DELETE, UNDO, RESTORE,
+            EDIT, HELP, SORT, ARCHIVE, UNARCHIVE, CONVERT, STATS);
+    private static final String BINARY_FORMAT = "binary";
+    private static final String TEXT_FORMAT = "text";
     private static final String EXITED_THE_COMMAND = "Exited the command.";
     private static final String LIST_SORTED = "Sort complete!";
     private static final String SORT_BY_CHOOSE_INDEX = "Sort by: (Choose index) or press enter to escape";
@@ -48,9 +66,41 @@ public class InputParsing {
     private static final String CLASSES_ATTENDED_MUST_BE_MORE = "Classes attended must be 0 or more.";
     private static final String CLASSES_ATTENDED_MUST_BE_LESS = "Classes attended must be less than 500.";
 
+    //@@author alalal47
+    /**
+     * Runs the command typed by the user, and times it for the stats command.
+     * Time spent waiting for the user to answer the questions of the command is not counted.
+     *
+     * @param userCommand         The command in [0] and the argument after it in [1], or null if invalid.
+     * @param masterStudentList   The list of all students.
+     * @param recentlyDeletedList The list of recently deleted students.
+     * @param archiveList         The list of archived students.
+     * @param in                  The InputSource to read answers from.
+     */
     public static void parseUserCommand(String[] userCommand, ArrayList<Student> masterStudentList,
                                         ArrayList<Student> recentlyDeletedList,
-                                        ArrayList<Student> archiveList, Scanner in) {
+                                        ArrayList<Student> archiveList, InputSource in) {
+        long start = System.nanoTime();
+        long waitBefore = in.getWaitNanos();
+        try {
+            runUserCommand(userCommand, masterStudentList, recentlyDeletedList, archiveList, in);
+        } finally {
+            long waited = in.getWaitNanos() - waitBefore;
+            CommandMetrics.recordCommand(getCommandName(userCommand), System.nanoTime() - start - waited);
+        }
+    }
+
+    private static String getCommandName(String[] userCommand) {
+        if (userCommand == null || !COMMANDS.contains(userCommand[0])) {
+            return CommandMetrics.INVALID_COMMAND;
+        }
+        return userCommand[0];
+    }
+
+    //@@author tayponghee
+    private static void runUserCommand(String[] userCommand, ArrayList<Student> masterStudentList,
+                                       ArrayList<Student> recentlyDeletedList,
+                                       ArrayList<Student> archiveList, InputSource in) {
         //@@author blackmirag3
         if (masterStudentList == null) {
             System.out.println("Student list is null.");
@@ -99,14 +149,16 @@ public class InputParsing {
 
         case LIST:
             if (userCommand[1] != null) {
-                UI.printInvalidListCommand();
+                //@@author alalal47
+                ListStudentsCommand.listWithOptions(masterStudentList, userCommand[1]);
+                //@@author ParthGandhiNUS
             } else {
                 parseListCommand(masterStudentList, archiveList, recentlyDeletedList, in);
             }
             break;
 
         case PROCESS_FILE:
-            TextFileHandler.process(masterStudentList, in);
+            TextFileHandler.process(masterStudentList, in, userCommand[1]);
             break;
 
         //@@ author tayponghee
@@ -127,23 +179,63 @@ public class InputParsing {
             ArchiveCommands.unarchiveStudent(masterStudentList, archiveList, userCommand[1], in);
             break;
 
+        //@@author alalal47
+        case CONVERT:
+            convertDataFiles(userCommand[1]);
+            UI.printDivider();
+            break;
+
+        case STATS:
+            CommandMetrics.printStats();
+            UI.printDivider();
+            break;
+
         default:
             UI.printWrongInput();
             break;
         }
     }
 
+    //@@author alalal47
+    /**
+     * Rewrites the data files in the format given by the user.
+     *
+     * @param format Either binary or text
+     */
+    private static void convertDataFiles(String format) {
+        if (format == null) {
+            DataUI.printInvalidDataFormatMessage();
+            return;
+        }
+
+        switch (format.trim().toLowerCase()) {
+        case BINARY_FORMAT:
+            DataHandler.convertDataFiles(true);
+            DataUI.printConversionCompleteMessage(BINARY_FORMAT);
+            break;
+
+        case TEXT_FORMAT:
+            DataHandler.convertDataFiles(false);
+            DataUI.printConversionCompleteMessage(TEXT_FORMAT);
+            break;
+
+        default:
+            DataUI.printInvalidDataFormatMessage();
+            break;
+        }
+    }
+
     //ParthGandhiNUS
 
     /**
      * Function which leads to the chooseListType Function
      *
      * @param masterStudentList List of the students used in the chooseListType function
-     * @param scanner           Scanner used for the chooseListType function
+     * @param scanner           InputSource used for the chooseListType function
      */
     //@@author tayponghee
     public static void parseListCommand(ArrayList<Student> masterStudentList, ArrayList<Student> archiveList
-            , ArrayList<Student> deletedList, Scanner scanner) {
+            , ArrayList<Student> deletedList, InputSource scanner) {
         UI.printListCommandStart();
         String subject = scanner.nextLine().trim();
         ListStudentsCommand.chooseListType(masterStudentList, archiveList, deletedList, scanner, subject);
@@ -153,9 +245,9 @@ public class InputParsing {
      * Sorts the list of students based on user input.
      *
      * @param masterStudentList The list of students to be sorted.
-     * @param in                The Scanner object to read user input.
+     * @param in                The InputSource to read user input from.
      */
-    private static void sortStudents(ArrayList<Student> masterStudentList, Scanner in, String sortType) {
+    private static void sortStudents(ArrayList<Student> masterStudentList, InputSource in, String sortType) {
         String input;
         while (true) {
             //@@author alalal47
@@ -198,7 +290,7 @@ public class InputParsing {
      * @param in The scanner object to read user input.
      * @return The valid grade.
      */
-    public static double promptForGrade(Scanner in) {
+    public static double promptForGrade(InputSource in) {
         while (true) {
             UI.printStudentGradesPrompt();
             String gradeInput = in.nextLine();
@@ -227,10 +319,11 @@ public class InputParsing {
      * Finds a student in the list by their name.
      *
      * @param masterStudentList The list of all students.
-     * @param name              The name of the student to search for.
+     * @param name              The name of the student to search for, the start of it followed by "*",
+     *                          or "#" followed by their phone number.
      * @return A list of students with names matching the input.
      */
-    public static Student findStudentByName(ArrayList<Student> masterStudentList, String name, Scanner in) {
+    public static Student findStudentByName(ArrayList<Student> masterStudentList, String name, InputSource in) {
 
         //@@author Cryolian
 
@@ -238,14 +331,33 @@ public class InputParsing {
             return null;
         }
 
-        ArrayList<Student> studentsWithMatchingNames = new ArrayList<Student>();
-        for (Student student : masterStudentList) {
-            if (student.getName().equalsIgnoreCase(name)) {
-                studentsWithMatchingNames.add(student);
+        //@@author alalal47
+        if (name.trim().startsWith(PHONE_NUMBER_MARKER)) {
+            return findStudentByPhoneNumber(masterStudentList, name.trim().substring(1));
+        }
+        if (name.trim().endsWith(NAME_WILDCARD)) {
+            String prefix = name.trim();
+            return findStudentByPrefix(masterStudentList, prefix.substring(0, prefix.length() - 1), in);
+        }
+
+        ArrayList<Student> studentsWithMatchingNames;
+        if (masterStudentList instanceof IndexedStudentList) {
+            StudentNameIndex nameIndex = ((IndexedStudentList) masterStudentList).getNameIndex();
+            studentsWithMatchingNames = new ArrayList<>(nameIndex.findExact(name));
+        } else {
+            //@@author Cryolian
+            studentsWithMatchingNames = new ArrayList<Student>();
+            for (Student student : masterStudentList) {
+                if (student.getName().equalsIgnoreCase(name)) {
+                    studentsWithMatchingNames.add(student);
+                }
             }
         }
 
         if (studentsWithMatchingNames.size() == 0) {
+            //@@author alalal47
+            printSimilarNames(masterStudentList, name.trim());
+            //@@author Cryolian
             return null;
         }
 
@@ -258,15 +370,100 @@ public class InputParsing {
 
     }
 
+    //@@author alalal47
+    /**
+     * Finds a student in the list by the start of their name, such as "Jo" for "John Tan".
+     * If more than one student matches, the user is asked for the phone number of the student they want.
+     *
+     * @param masterStudentList The list of all students.
+     * @param prefix            The start of the name of the student to search for.
+     * @param in                InputSource to read in the user input.
+     * @return The student whose name starts with the prefix, or null if there is no single such student.
+     */
+    private static Student findStudentByPrefix(ArrayList<Student> masterStudentList, String prefix, InputSource in) {
+        if (prefix.isBlank()) {
+            return null;
+        }
+        List<Student> matches = getNameIndex(masterStudentList).findByPrefix(prefix, MAX_PREFIX_MATCHES + 1);
+        if (matches.isEmpty()) {
+            return null;
+        }
+        if (matches.size() == 1) {
+            return matches.get(0);
+        }
+        if (matches.size() > MAX_PREFIX_MATCHES) {
+            UI.println("More than " + MAX_PREFIX_MATCHES + " students have names starting with \"" + prefix
+                    + "\". Please type more of the name.");
+            return null;
+        }
+        return findStudentByNumber(new ArrayList<>(matches), in);
+    }
+
+    /**
+     * Finds a student in the list by their phone number, such as "98765432" from "view #98765432".
+     *
+     * @param masterStudentList The list of all students.
+     * @param number            The phone number of the student to search for.
+     * @return The student with the phone number, or null if there is no single such student.
+     */
+    private static Student findStudentByPhoneNumber(ArrayList<Student> masterStudentList, String number) {
+        int phoneNumber;
+        try {
+            phoneNumber = Integer.parseInt(number.trim());
+        } catch (NumberFormatException e) {
+            UI.printValidNumberError();
+            return null;
+        }
+        List<Student> matches = StudentList.findStudentsByPhoneNumber(masterStudentList, phoneNumber);
+        if (matches.size() > 1) {
+            for (Student student : matches) {
+                student.printStringNumber();
+            }
+            UI.println("More than one student has this phone number. Please use their name instead.");
+            return null;
+        }
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * Prints the names of students with names close to the given name, in case it was mistyped.
+     * Nothing is printed if no name is close enough.
+     *
+     * @param masterStudentList The list of all students.
+     * @param name              The name which was not found.
+     */
+    private static void printSimilarNames(ArrayList<Student> masterStudentList, String name) {
+        int maxDistance = Math.min(MAX_NAME_TYPOS, name.length() / NAME_LETTERS_PER_TYPO);
+        if (maxDistance == 0 || masterStudentList.isEmpty()) {
+            return;
+        }
+        List<Student> similar = getNameIndex(masterStudentList).findSimilar(name, maxDistance, MAX_SIMILAR_NAMES);
+        if (similar.isEmpty()) {
+            return;
+        }
+        StringBuilder names = new StringBuilder("Did you mean: ");
+        for (int i = 0; i < similar.size(); i++) {
+            names.append(i == 0 ? "" : ", ").append(similar.get(i).getName());
+        }
+        UI.println(names.append('?').toString());
+    }
+
+    private static StudentNameIndex getNameIndex(ArrayList<Student> students) {
+        if (students instanceof IndexedStudentList) {
+            return ((IndexedStudentList) students).getNameIndex();
+        }
+        return StudentNameIndex.of(students);
+    }
+
     /**
      * Function looks through a list of students with the same name,
      * prints them out, and expects an Integer input to specify a student.
      *
      * @param studentList List of students to look for.
-     * @param in          Scanner to parse in the user input.
+     * @param in          InputSource to read in the user input.
      * @return Student with right name and number pair.
      */
-    private static Student findStudentByNumber(ArrayList<Student> studentList, Scanner in) {
+    private static Student findStudentByNumber(ArrayList<Student> studentList, InputSource in) {
         assert studentList.size() > 1 : "List should contain more than one Student";
 
         for (Student student : studentList) {
@@ -351,7 +548,7 @@ public class InputParsing {
      * @return -1 if an exception was thrown. An 8 or 10-digit number if not.
      * @throws NumberFormatException thrown if invalid number is give
      */
-    public static int promptForPhoneNumber(Scanner in) throws NumberFormatException {
+    public static int promptForPhoneNumber(InputSource in) throws NumberFormatException {
 
         int number = 0;
 
@@ -369,12 +566,12 @@ public class InputParsing {
     /**
      * Uses the scanner to read the all the characters input by the user
      *
-     * @param in Scanner takes in the next line input by user
+     * @param in InputSource to read the next line input by user
      * @return integer value of the characters input by the user
      * @throws NumberFormatException in the event that the characters input by the user are not numbers
      */
     //@@author Cryolian
-    private static int readInPhoneNumber(Scanner in) throws NumberFormatException {
+    private static int readInPhoneNumber(InputSource in) throws NumberFormatException {
 
         String input = in.nextLine().trim();
 
@@ -405,7 +602,7 @@ public class InputParsing {
      * @return "Unknown" if blank was inputted, or the trimmed string inputted by the user.
      */
     //@@author Cryolian
-    public static String readInString(Scanner in) {
+    public static String readInString(InputSource in) {
 
         String string = in.nextLine();
         if (string.isBlank()) {
@@ -432,7 +629,7 @@ public class InputParsing {
      * @param in The scanner object to read in the user input.
      * @return A valid LocalDate object from the user input.
      */
-    public static LocalDate readInDate(Scanner in) {
+    public static LocalDate readInDate(InputSource in) {
 
         String userInput;
         LocalDate paymentDate;
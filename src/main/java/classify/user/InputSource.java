@@ -0,0 +1,136 @@
+package classify.user;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+//@@author alalal47
+/**
+ * Lines typed by the user, read from the console, a script or a string through one buffered reader.
+ * Every command reads its answers from the InputSource it is given, so each line is read exactly once,
+ * in order, and no line is lost in the buffer of a second reader of the same input.
+ * Only one InputSource should read the standard input, which is shared through getStandardInput.
+ */
+public class InputSource implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static InputSource standardInput;
+
+    private final BufferedReader reader;
+    /** Line read ahead by hasNextLine, which nextLine returns next. */
+    private String nextLine;
+    private long waitNanos = 0;
+
+    /**
+     * Reads lines from the stream, which is decoded with the default character set like the console.
+     *
+     * @param in Stream to read the lines from.
+     */
+    public InputSource(InputStream in) {
+        this(new InputStreamReader(in, Charset.defaultCharset()));
+    }
+
+    /**
+     * Reads the lines of the text, for answers which are already known.
+     *
+     * @param text Lines to read, separated by line breaks.
+     */
+    public InputSource(String text) {
+        this(new StringReader(text));
+    }
+
+    private InputSource(Reader reader) {
+        this.reader = new BufferedReader(reader, BUFFER_SIZE);
+    }
+
+    /**
+     * Reads the lines of a file, such as a script of commands.
+     *
+     * @param path Path of the file, which is read as UTF-8.
+     * @return Lines of the file.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static InputSource of(Path path) throws IOException {
+        return new InputSource(Files.newBufferedReader(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the one InputSource reading the standard input, which is created the first time it is needed.
+     * Anything replacing System.in, such as UI.useBufferedConsole, should do so before then.
+     *
+     * @return Lines typed by the user.
+     */
+    public static synchronized InputSource getStandardInput() {
+        if (standardInput == null) {
+            standardInput = new InputSource(System.in);
+        }
+        return standardInput;
+    }
+
+    /**
+     * Returns true if there is another line to read, waiting for the user to type one if needed.
+     *
+     * @return True if nextLine will return a line.
+     */
+    public boolean hasNextLine() {
+        if (nextLine == null) {
+            nextLine = readLine();
+        }
+        return nextLine != null;
+    }
+
+    /**
+     * Returns the next line, without its line break.
+     *
+     * @return Next line of the input.
+     * @throws NoSuchElementException If the input has ended.
+     */
+    public String nextLine() {
+        if (!hasNextLine()) {
+            throw new NoSuchElementException("No line found");
+        }
+        String line = nextLine;
+        nextLine = null;
+        return line;
+    }
+
+    /**
+     * Returns the total time spent waiting for lines, such as for the user to type an answer.
+     *
+     * @return Time spent reading lines, in nanoseconds.
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+
+    private String readLine() {
+        try {
+            if (reader.ready()) {
+                // The line is already buffered, so there is no wait to time
+                return reader.readLine();
+            }
+            long start = System.nanoTime();
+            try {
+                return reader.readLine();
+            } finally {
+                waitNanos += System.nanoTime() - start;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
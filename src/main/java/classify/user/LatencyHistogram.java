@@ -0,0 +1,95 @@
+package classify.user;
+
+//@@author alalal47
+/**
+ * Histogram of durations in nanoseconds, kept in buckets whose width grows with the duration like an
+ * HDR histogram, so recording is a few shifts and an array increment and every percentile is within about
+ * 3% of the real duration, from nanoseconds up to hours, in about 10 KB.
+ * Durations below SUB_BUCKET_COUNT nanoseconds are kept exactly. Above that, each power of two is split
+ * into SUB_BUCKET_COUNT / 2 buckets of equal width.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+    /** Longest duration kept apart from the others, about 4.9 hours. Longer durations share its bucket. */
+    private static final long MAX_TRACKED_DURATION = (1L << 44) - 1;
+
+    private final long[] counts = new long[getBucket(MAX_TRACKED_DURATION) + 1];
+    private long count = 0;
+    private long total = 0;
+    private long max = 0;
+
+    private static int getBucket(long duration) {
+        long value = Math.min(Math.max(duration, 0), MAX_TRACKED_DURATION);
+        int magnitude = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS);
+        return magnitude * HALF_SUB_BUCKET_COUNT + (int) (value >>> magnitude);
+    }
+
+    /**
+     * Returns the longest duration which falls in the bucket.
+     */
+    private static long getHighestDuration(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int magnitude = bucket / HALF_SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket - (long) magnitude * HALF_SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+
+    /**
+     * Adds a duration to the histogram.
+     *
+     * @param duration Duration in nanoseconds, where negative durations are counted as 0.
+     */
+    public void record(long duration) {
+        counts[getBucket(duration)]++;
+        count++;
+        total += Math.max(duration, 0);
+        max = Math.max(max, duration);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the average duration recorded, or 0 if none were.
+     *
+     * @return Mean duration in nanoseconds.
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Returns a duration which at least the given percentage of the recorded durations are no longer than,
+     * to within the width of its bucket, and never more than the longest duration recorded.
+     *
+     * @param percentile Percentage of the durations, from 0 to 100.
+     * @return Duration in nanoseconds, or 0 if no durations were recorded.
+     */
+    public long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen == count) {
+                // The longest duration recorded is in this bucket, and is known exactly
+                return max;
+            }
+            if (seen >= rank) {
+                return Math.min(getHighestDuration(bucket), max);
+            }
+        }
+        return max;
+    }
+}
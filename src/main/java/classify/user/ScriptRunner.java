@@ -0,0 +1,139 @@
+package classify.user;
+
+import classify.data.DataHandler;
+import classify.student.Student;
+import classify.student.StudentList;
+import classify.ui.UI;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+//@@author alalal47
+/**
+ * Runs the commands in a script without waiting on the user, for fixing many students at once.
+ * A script holds the lines a user would type, so each command is followed by the answers to its questions.
+ * Changes are saved once, after the last command, and the time taken by each command is reported at the end.
+ */
+public class ScriptRunner {
+    /** Script path which reads the script from the standard input instead of a file. */
+    public static final String STANDARD_INPUT = "-";
+    private static final String BYE = "bye";
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final int[] PERCENTILES = {50, 90, 99};
+
+    /**
+     * Runs every command in the script against the saved student lists, then saves the lists once and
+     * prints the number of commands run per second and the time taken by each command.
+     *
+     * @param scriptPath Path of the script, or "-" to read the script from the standard input.
+     */
+    public static void runScript(String scriptPath) {
+        InputSource script;
+        try {
+            script = STANDARD_INPUT.equals(scriptPath)
+                    ? InputSource.getStandardInput()
+                    : InputSource.of(Path.of(scriptPath));
+        } catch (IOException e) {
+            UI.println("Could not read the script " + scriptPath);
+            return;
+        }
+
+        DataHandler.deferSaves();
+        long start = System.nanoTime();
+        LatencyHistogram latencies;
+        long runTime;
+        try {
+            latencies = runCommands(script, StudentList.masterStudentList, StudentList.recentlyDeletedList,
+                    StudentList.archiveList);
+        } finally {
+            // Saves are not journalled while deferred, so the changes are written even if a command failed
+            runTime = System.nanoTime() - start;
+            DataHandler.close();
+            closeScript(script, scriptPath);
+        }
+        long saveTime = System.nanoTime() - start - runTime;
+
+        UI.println(formatSummary(latencies, runTime, saveTime));
+        UI.flush();
+    }
+
+    private static void closeScript(InputSource script, String scriptPath) {
+        if (STANDARD_INPUT.equals(scriptPath)) {
+            return;
+        }
+        try {
+            script.close();
+        } catch (IOException e) {
+            // Every line has already been read, so the script is no longer needed
+        }
+    }
+
+    /**
+     * Runs the commands in the script until it ends, reaches bye or the program is stopped, timing each command.
+     * Blank lines between commands are skipped.
+     *
+     * @param script              Lines of the script.
+     * @param masterStudentList   The list of all students.
+     * @param recentlyDeletedList The list of recently deleted students.
+     * @param archiveList         The list of archived students.
+     * @return Histogram of the time taken by each command that was run, in nanoseconds.
+     */
+    static LatencyHistogram runCommands(InputSource script, ArrayList<Student> masterStudentList,
+                                        ArrayList<Student> recentlyDeletedList, ArrayList<Student> archiveList) {
+        LatencyHistogram latencies = new LatencyHistogram();
+        String[] userCommand = null;
+        while ((userCommand == null || !userCommand[0].equals(BYE)) && script.hasNextLine()) {
+            String line = script.nextLine();
+            if (line.isBlank()) {
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                String[] command = UserInput.processInput(line);
+                userCommand = command;
+                CommandMetrics.recordParse(System.nanoTime() - start);
+                if (!DataHandler.runUnlessExiting(() -> InputParsing.parseUserCommand(command, masterStudentList,
+                        recentlyDeletedList, archiveList, script))) {
+                    break;
+                }
+            } catch (NoSuchElementException e) {
+                UI.println("The script ended in the middle of the command: " + line);
+                break;
+            } finally {
+                latencies.record(System.nanoTime() - start);
+            }
+        }
+        return latencies;
+    }
+
+    /**
+     * Describes how fast the commands of a script ran.
+     *
+     * @param latencies Histogram of the time taken by each command, in nanoseconds.
+     * @param runTime   Time taken to run every command, in nanoseconds.
+     * @param saveTime  Time taken to save the student lists afterwards, in nanoseconds.
+     * @return Lines giving the throughput and the percentiles of the time taken by each command.
+     */
+    static String formatSummary(LatencyHistogram latencies, long runTime, long saveTime) {
+        long commandCount = latencies.getCount();
+        double commandsPerSecond = runTime == 0 ? 0 : commandCount * NANOS_PER_SECOND / runTime;
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ROOT, "Ran %d commands in %.1f ms (%.0f commands/s), saved in %.1f ms",
+                commandCount, runTime / NANOS_PER_MILLI, commandsPerSecond, saveTime / NANOS_PER_MILLI));
+        if (commandCount == 0) {
+            return summary.toString();
+        }
+        summary.append(System.lineSeparator()).append("Time per command:");
+        for (int percentile : PERCENTILES) {
+            summary.append(String.format(Locale.ROOT, " p%d %.1f us,", percentile,
+                    latencies.getPercentile(percentile) / NANOS_PER_MICRO));
+        }
+        summary.append(String.format(Locale.ROOT, " max %.1f us", latencies.getMax() / NANOS_PER_MICRO));
+        return summary.toString();
+    }
+}
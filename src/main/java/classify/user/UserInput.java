@@ -2,6 +2,11 @@ package classify.user;
 
 public class UserInput {
     //@@author alalal47
+    /** Command whose options, such as --page, are checked by the list command itself. */
+    private static final String LIST = "list";
+    /** Argument naming a student by phone number, such as #98765432, which may contain the character '#'. */
+    private static final String PHONE_NUMBER_ARGUMENT = "#\\d+";
+
     /**
      * Used to process the different variations of the users inputs
      * @param userInput : String which the user inputs
@@ -14,8 +19,11 @@ public class UserInput {
         try {
             if  (userInput.trim().contains(" ")) {
                 commandWithName = userInput.split(" ", 2);
-                
-                InputParsing.checkForSpecialCharacters(commandWithName[1]);
+
+                if (!commandWithName[0].equalsIgnoreCase(LIST)
+                        && !commandWithName[1].trim().matches(PHONE_NUMBER_ARGUMENT)) {
+                    InputParsing.checkForSpecialCharacters(commandWithName[1]);
+                }
 
             } else {
                 commandWithName[0] = userInput.trim();
@@ -4,12 +4,12 @@ package classify.commands;
 import classify.student.Student;
 import classify.student.StudentList;
 import classify.user.InputParsing;
+import classify.user.InputSource;
 import classify.user.InvalidCharacterException;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.NoSuchElementException;
-import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -28,7 +28,7 @@ class AddStudentTest {
     @Test
     void checkForEmptyNameTestName() throws InvalidCharacterException {
         ArrayList<Student> masterStudentList = new ArrayList<>();
-        Scanner scanner = new Scanner(PARTH + "\n");
+        InputSource scanner = new InputSource(PARTH + "\n");
 
         String name = AddStudent.checkForEmptyName(masterStudentList, scanner, null);
 
@@ -42,7 +42,7 @@ class AddStudentTest {
     @Test
     void checkForEmptyNameTestEmpty() {
         ArrayList<Student> masterStudentList = new ArrayList<>();
-        Scanner scanner = new Scanner("\n");
+        InputSource scanner = new InputSource("\n");
 
         boolean exceptionThrown = false;
         try {
@@ -61,7 +61,7 @@ class AddStudentTest {
     @Test
     void findStudentByNameNonExisting() {
         ArrayList<Student> masterStudentList = new ArrayList<>();
-        Scanner scanner = new Scanner(BANANA_REPUBLIC + "\n");
+        InputSource scanner = new InputSource(BANANA_REPUBLIC + "\n");
         Student foundStudent = InputParsing.findStudentByName(masterStudentList, PARTH, scanner);
 
         assertNull(foundStudent);
@@ -74,18 +74,17 @@ class AddStudentTest {
     @Test
     void findStudentByNameExisting() {
         ArrayList<Student> masterStudentList = new ArrayList<>();
-        Scanner scanner = new Scanner(BANANA_REPUBLIC + "\n");
+        InputSource scanner = new InputSource(BANANA_REPUBLIC + "\n");
         Student foundStudent = InputParsing.findStudentByName(masterStudentList, BANANA_REPUBLIC, scanner);
 
         assertNull(foundStudent);
     }
 
-
     //@@author Cryolian
     @Test 
     void addSpecialCharactersTest() {
         StudentList studentList = new StudentList();
-        Scanner scanner = new Scanner("muli----");
+        InputSource scanner = new InputSource("muli----");
 
         AddStudent.addStudent(studentList.studentList, scanner, null);
         assertTrue(studentList.studentList.size() == 0);
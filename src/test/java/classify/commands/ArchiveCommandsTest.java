@@ -3,12 +3,11 @@ package classify.commands;
 import org.junit.jupiter.api.Test;
 import classify.student.StudentList;
 import classify.student.Student;
+import classify.user.InputSource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.util.Scanner;
-
 //@@author Cryolian
 public class ArchiveCommandsTest {
     
@@ -18,7 +17,7 @@ public class ArchiveCommandsTest {
         StudentList.masterStudentList.clear();
         StudentList.archiveList.clear();
         StudentList.masterStudentList.add(new Student("Wario"));
-        Scanner in = new Scanner("Wario\n");
+        InputSource in = new InputSource("Wario\n");
         assertTrue(StudentList.masterStudentList.size() == 1);
 
         ArchiveCommands.archiveStudent(StudentList.masterStudentList, StudentList.archiveList, null, in);
@@ -34,7 +33,7 @@ public class ArchiveCommandsTest {
         StudentList.archiveList.clear();
 
         StudentList.masterStudentList.add(new Student("Wario"));
-        Scanner in = new Scanner("");
+        InputSource in = new InputSource("");
 
         ArchiveCommands.archiveStudent(StudentList.masterStudentList, StudentList.archiveList, "notWario", in);
 
@@ -51,7 +50,7 @@ public class ArchiveCommandsTest {
 
         StudentList.masterStudentList.add(new Student("Wario"));
         StudentList.archiveList.add(new Student("Wario"));
-        Scanner in = new Scanner("");
+        InputSource in = new InputSource("");
 
         ArchiveCommands.archiveStudent(StudentList.masterStudentList, StudentList.archiveList, "notWario", in);
 
@@ -67,7 +66,7 @@ public class ArchiveCommandsTest {
         StudentList.archiveList.clear();
 
         StudentList.archiveList.add(new Student("Wario"));
-        Scanner in = new Scanner("");
+        InputSource in = new InputSource("");
 
         ArchiveCommands.unarchiveStudent(studentlist.studentList, StudentList.archiveList, "wario", in);
 
@@ -84,7 +83,7 @@ public class ArchiveCommandsTest {
         StudentList.archiveList.clear();
 
         StudentList.archiveList.add(new Student("Wario"));
-        Scanner in = new Scanner("notWario\n");
+        InputSource in = new InputSource("notWario\n");
 
         ArchiveCommands.unarchiveStudent(studentlist.studentList, StudentList.archiveList, null, in);
 
@@ -103,7 +102,7 @@ public class ArchiveCommandsTest {
 
         StudentList.masterStudentList.add(new Student("Wario"));
         StudentList.archiveList.add(new Student("Wario"));
-        Scanner in = new Scanner("Wario\n");
+        InputSource in = new InputSource("Wario\n");
 
         ArchiveCommands.unarchiveStudent(StudentList.masterStudentList, StudentList.archiveList, "Wario", in);
 
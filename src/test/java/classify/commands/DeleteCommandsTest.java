@@ -1,10 +1,10 @@
 package classify.commands;
 
 import classify.student.Student;
+import classify.user.InputSource;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
-import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -22,7 +22,7 @@ class DeleteCommandsTest {
     void testDeleteStudent() {
         ArrayList<Student> masterStudentList = new ArrayList<>();
         ArrayList<Student> recentlyDeletedList = new ArrayList<>();
-        Scanner scanner = new Scanner(System.in);
+        InputSource scanner = new InputSource(System.in);
 
         Student testStudent = new Student(TEST_STUDENT);
         masterStudentList.add(testStudent);
@@ -42,7 +42,7 @@ class DeleteCommandsTest {
     void testRestoreStudent() {
         ArrayList<Student> masterStudentList = new ArrayList<>();
         ArrayList<Student> recentlyDeletedList = new ArrayList<>();
-        Scanner scanner = new Scanner(System.in);
+        InputSource scanner = new InputSource(System.in);
 
         Student testStudent = new Student(TEST_STUDENT);
         recentlyDeletedList.add(testStudent);
@@ -2,6 +2,7 @@ package classify.commands;
 
 import classify.student.Student;
 import classify.student.StudentList;
+import classify.user.InputSource;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeAll;
@@ -12,7 +13,6 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
-import java.util.Scanner;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 //Integration testing for "edit" implementation within Classify
@@ -60,7 +60,7 @@ public class EditTest {
         String testInput = "not adam";
         System.setIn(new ByteArrayInputStream(testInput.getBytes()));
 
-        EditStudent.editStudent(new Scanner(System.in), null);
+        EditStudent.editStudent(new InputSource(System.in), null);
 
         //Initial function call where programme prompts for student name
         System.setOut(System.out);
@@ -89,7 +89,7 @@ public class EditTest {
         assertEquals(StudentList.masterStudentList.size(), 2);
 
         ByteArrayOutputStream output = new ByteArrayOutputStream();
-        Scanner input = new Scanner(commandString);
+        InputSource input = new InputSource(commandString);
 
         System.setOut(new PrintStream(output));
 
@@ -116,7 +116,7 @@ public class EditTest {
         assertEquals(StudentList.masterStudentList.size(), 2);
 
         ByteArrayOutputStream output = new ByteArrayOutputStream();
-        Scanner input = new Scanner(commandString);
+        InputSource input = new InputSource(commandString);
 
         System.setOut(new PrintStream(output));
 
@@ -138,7 +138,7 @@ public class EditTest {
         assertEquals(StudentList.masterStudentList.size(), 1);
 
         ByteArrayOutputStream output = new ByteArrayOutputStream();
-        Scanner input = new Scanner(commandString);
+        InputSource input = new InputSource(commandString);
 
         System.setOut(new PrintStream(output));
 
@@ -160,7 +160,7 @@ public class EditTest {
         assertEquals(StudentList.masterStudentList.size(), 1);
 
         ByteArrayOutputStream output = new ByteArrayOutputStream();
-        Scanner input = new Scanner(commandString);
+        InputSource input = new InputSource(commandString);
 
         System.setOut(new PrintStream(output));
 
@@ -1,16 +1,19 @@
 package classify.commands;
 //@@author tayponghee
 
+import classify.student.IndexedStudentList;
 import classify.student.Student;
 import classify.student.StudentAttributes;
 import classify.student.SubjectGrade;
 import org.junit.jupiter.api.Test;
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ListStudentsCommandTest {
 
@@ -111,6 +114,53 @@ class ListStudentsCommandTest {
      * @param action The action whose output needs to be captured.
      * @return A list containing the captured output lines.
      */
+    //@@author alalal47
+    private static ArrayList<Student> createStudents(ArrayList<Student> students) {
+        int[] classes = {5, 2, 9, 2, 7};
+        for (int i = 0; i < classes.length; i++) {
+            Student student = new Student("Student " + i);
+            student.getAttributes().addSubjectGrade(new SubjectGrade(MATH, 80.0, classes[i]));
+            student.setLastPaymentDate(LocalDate.of(2024, 1, 10 - i));
+            students.add(student);
+        }
+        return students;
+    }
+
+    @Test
+    void findFirstStudents_indexedAndPlainLists_sameStudentsWithTiesInListOrder() {
+        List<Student> plainFirst = ListStudentsCommand.findFirstStudents(createStudents(new ArrayList<>()), 3, true);
+        List<Student> indexedFirst = ListStudentsCommand.findFirstStudents(
+                createStudents(new IndexedStudentList()), 3, true);
+
+        assertEquals(List.of("Student 1", "Student 3", "Student 0"), getNames(plainFirst));
+        assertEquals(getNames(plainFirst), getNames(indexedFirst));
+        assertEquals(List.of("Student 4", "Student 3"),
+                getNames(ListStudentsCommand.findFirstStudents(createStudents(new ArrayList<>()), 2, false)));
+    }
+
+    @Test
+    void listWithOptions_secondPage_onlyThatPageListed() {
+        ArrayList<Student> students = createStudents(new IndexedStudentList());
+
+        List<String> output = captureOutput(() -> ListStudentsCommand.listWithOptions(students, "--page 2 --size 2"));
+
+        assertEquals("Page 2 of 3, students 3 to 4 of 5:", output.get(0));
+        assertTrue(output.get(1).startsWith("3.Student 2"));
+        assertTrue(output.get(2).startsWith("4.Student 3"));
+        assertEquals("Currently, there are 5 students in the list.", output.get(3));
+        assertEquals(List.of("Type 'list' only!"),
+                captureOutput(() -> ListStudentsCommand.listWithOptions(students, "--page two")));
+    }
+
+    private static List<String> getNames(List<Student> students) {
+        List<String> names = new ArrayList<>();
+        for (Student student : students) {
+            names.add(student.getName());
+        }
+        return names;
+    }
+
+    //@@author tayponghee
     private List<String> captureOutput(Runnable action) {
         List<String> output = new ArrayList<>();
         ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
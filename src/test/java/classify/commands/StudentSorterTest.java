@@ -7,8 +7,13 @@ import classify.student.Student;
 import classify.student.StudentAttributes;
 import classify.student.SubjectGrade;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -21,6 +26,10 @@ public class StudentSorterTest {
     public static final String SHUI_HON = "Shui Hon";
     public static final String SCIENCE = "Science";
     public static final String MATH = "Math";
+    //@@author alalal47
+    private static final Pattern LISTED_STUDENT = Pattern.compile("\\d+\\. ?(.+?)(?: - .*)?");
+
+    //@@author tayponghee
 
     /**
      * Test case to verify the sorting of students by different criteria.
@@ -80,26 +89,55 @@ public class StudentSorterTest {
         student4.setAttributes(attributes4);
         student5.setAttributes(attributes5);
 
-        StudentSorter.sortByChoice(students, "1", null);
-        assertEquals(GERARD, students.get(0).getName());
-        assertEquals(PARTH, students.get(1).getName());
-        assertEquals(PONG_HEE, students.get(2).getName());
-        assertEquals(SHUI_HON, students.get(3).getName());
-        assertEquals(YI_XIN, students.get(4).getName());
+        //@@author alalal47
+        List<String> sortedByName = captureListedNames(() -> StudentSorter.sortByChoice(students, "1", null));
+        //@@author tayponghee
+        assertEquals(GERARD, sortedByName.get(0));
+        assertEquals(PARTH, sortedByName.get(1));
+        assertEquals(PONG_HEE, sortedByName.get(2));
+        assertEquals(SHUI_HON, sortedByName.get(3));
+        assertEquals(YI_XIN, sortedByName.get(4));
 
-        StudentSorter.sortByChoice(students, "2", null);
-        assertEquals(PONG_HEE, students.get(0).getName());
-        assertEquals(PARTH, students.get(1).getName());
-        assertEquals(SHUI_HON, students.get(2).getName());
-        assertEquals(YI_XIN, students.get(3).getName());
-        assertEquals(GERARD, students.get(4).getName());
+        //@@author alalal47
+        List<String> sortedByClasses = captureListedNames(() -> StudentSorter.sortByChoice(students, "2", null));
+        //@@author tayponghee
+        assertEquals(PONG_HEE, sortedByClasses.get(0));
+        assertEquals(PARTH, sortedByClasses.get(1));
+        assertEquals(YI_XIN, sortedByClasses.get(2));
+        assertEquals(SHUI_HON, sortedByClasses.get(3));
+        assertEquals(GERARD, sortedByClasses.get(4));
 
         //@@author alalal47
-        StudentSorter.sortByChoice(students, "3", null);
-        assertEquals(PONG_HEE, students.get(0).getName());
-        assertEquals(PARTH, students.get(1).getName());
-        assertEquals(YI_XIN, students.get(2).getName());
-        assertEquals(GERARD, students.get(3).getName());
-        assertEquals(SHUI_HON, students.get(4).getName());
+        List<String> sortedByPayment = captureListedNames(() -> StudentSorter.sortByChoice(students, "3", null));
+        assertEquals(PONG_HEE, sortedByPayment.get(0));
+        assertEquals(PARTH, sortedByPayment.get(1));
+        assertEquals(YI_XIN, sortedByPayment.get(2));
+        assertEquals(GERARD, sortedByPayment.get(3));
+        assertEquals(SHUI_HON, sortedByPayment.get(4));
+
+        assertEquals(List.of(student1, student2, student3, student4, student5), students);
+    }
+
+    /**
+     * Returns the names of the students listed by the action, in the order they were printed.
+     */
+    private static List<String> captureListedNames(Runnable action) {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+        try {
+            action.run();
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        List<String> names = new ArrayList<>();
+        for (String line : outContent.toString().split(System.lineSeparator())) {
+            Matcher matcher = LISTED_STUDENT.matcher(line);
+            if (matcher.matches()) {
+                names.add(matcher.group(1));
+            }
+        }
+        return names;
     }
 }
@@ -5,17 +5,16 @@ import classify.student.Student;
 import classify.student.StudentAttributes;
 import classify.student.SubjectGrade;
 import classify.student.StudentList;
+import classify.user.InputSource;
 
 import org.junit.jupiter.api.Test;
 
-
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -27,7 +26,7 @@ class ViewStudentTest {
     @Test
     void viewStudentTest() {
         InputStream in = new ByteArrayInputStream(XIAO_MING.getBytes());
-        Scanner scanner = new Scanner(in);
+        InputSource scanner = new InputSource(in);
 
         ArrayList<Student> masterStudentList = new ArrayList<>();
         Student student = new Student(XIAO_MING);
@@ -80,7 +79,7 @@ class ViewStudentTest {
         assertEquals(studentlist.studentList.size(), 2);
 
         ByteArrayOutputStream output = new ByteArrayOutputStream();
-        Scanner input = new Scanner("88888888\n");
+        InputSource input = new InputSource("88888888\n");
 
         System.setOut(new PrintStream(output));
 
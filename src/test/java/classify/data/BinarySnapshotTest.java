@@ -0,0 +1,120 @@
+package classify.data;
+//@@author alalal47
+
+import classify.student.Student;
+import classify.student.SubjectGrade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinarySnapshotTest {
+    private static final String TEST_FOLDER = "./data/binaryTestFolder";
+    private static final Path SNAPSHOT_PATH = Paths.get(TEST_FOLDER + "/snapshot.txt");
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(SNAPSHOT_PATH);
+        Files.deleteIfExists(Paths.get(TEST_FOLDER));
+    }
+
+    @Test
+    public void load_writtenSnapshot_sameStudentsInSameOrder() throws IOException {
+        Student alpha = new Student("Alpha Beta");
+        alpha.getAttributes().setGender("F");
+        alpha.getAttributes().setPhoneNumber(91234567);
+        alpha.getAttributes().setLastPaymentDate(LocalDate.of(2024, 4, 13));
+        alpha.getAttributes().setRemarks("Likes maths, and science!");
+        alpha.getAttributes().addSubjectGrade(new SubjectGrade("Math", 81.3, 10));
+        alpha.getAttributes().addSubjectGrade(new SubjectGrade("Science", 95.0, 12));
+        Student gamma = new Student("Gamma");
+        gamma.getAttributes().setPhoneNumber(92345678);
+
+        DataWriter.writeBytesToFile(BinarySnapshot.toBytes(List.of(alpha, gamma)), TEST_FOLDER,
+                SNAPSHOT_PATH.toString());
+        assertTrue(BinarySnapshot.isBinarySnapshot(SNAPSHOT_PATH));
+
+        ArrayList<Student> list = new ArrayList<>();
+        BinarySnapshot.load(SNAPSHOT_PATH, list);
+
+        assertEquals(2, list.size());
+        Student loaded = list.get(0);
+        assertEquals(alpha.textFileInputString(), loaded.textFileInputString());
+        assertEquals("Likes maths, and science!", loaded.getAttributes().getRemarks());
+        assertEquals(12, loaded.getAttributes().getSubjectGrades().get(1).getClassesAttended());
+        assertEquals(gamma.textFileInputString(), list.get(1).textFileInputString());
+    }
+
+    @Test
+    public void isBinarySnapshot_textFile_false() throws IOException {
+        DataWriter.writeLinesToFile(List.of("Alpha ~~ F ~~ 91234567 ~~ 2024-04-13 ~~ NA ~~ "), TEST_FOLDER,
+                SNAPSHOT_PATH.toString());
+
+        assertFalse(BinarySnapshot.isBinarySnapshot(SNAPSHOT_PATH));
+    }
+
+    @Test
+    public void load_truncatedSnapshot_exceptionThrown() throws IOException {
+        Student alpha = new Student("Alpha");
+        alpha.getAttributes().setPhoneNumber(91234567);
+        byte[] bytes = BinarySnapshot.toBytes(List.of(alpha));
+        DataWriter.writeBytesToFile(Arrays.copyOf(bytes, bytes.length - 4), TEST_FOLDER,
+                SNAPSHOT_PATH.toString());
+
+        assertThrows(IOException.class, () -> BinarySnapshot.load(SNAPSHOT_PATH, new ArrayList<>()));
+    }
+
+    @Test
+    public void load_studentsFailingTextChecks_studentsAndSubjectsSkipped() throws IOException {
+        Student separator = new Student("Alpha ~~ Beta");
+        separator.getAttributes().setPhoneNumber(91234567);
+        Student invalidNumber = new Student("Gamma");
+        invalidNumber.getAttributes().setPhoneNumber(123);
+        Student delta = new Student("Delta");
+        delta.getAttributes().setPhoneNumber(92345678);
+        delta.getAttributes().addSubjectGrade(new SubjectGrade("Math#1", 81.3, 10));
+        delta.getAttributes().addSubjectGrade(new SubjectGrade("Science", 95.0, 12));
+        DataWriter.writeBytesToFile(BinarySnapshot.toBytes(List.of(separator, invalidNumber, delta)), TEST_FOLDER,
+                SNAPSHOT_PATH.toString());
+
+        ArrayList<Student> list = new ArrayList<>();
+        BinarySnapshot.load(SNAPSHOT_PATH, list);
+
+        assertEquals(1, list.size());
+        assertEquals("Delta", list.get(0).getName());
+        assertEquals(1, list.get(0).getAttributes().getSubjectGrades().size());
+        assertEquals("Science", list.get(0).getAttributes().getSubjectGrades().get(0).getSubject());
+    }
+
+    @Test
+    public void load_corruptCounts_exceptionThrown() throws IOException {
+        Student alpha = new Student("Alpha");
+        alpha.getAttributes().setPhoneNumber(91234567);
+        byte[] bytes = BinarySnapshot.toBytes(List.of(alpha));
+
+        // The name length follows the 4 byte magic number, the version and the student count
+        byte[] nullName = bytes.clone();
+        ByteBuffer.wrap(nullName).putInt(12, -1);
+        DataWriter.writeBytesToFile(nullName, TEST_FOLDER, SNAPSHOT_PATH.toString());
+        assertThrows(IOException.class, () -> BinarySnapshot.load(SNAPSHOT_PATH, new ArrayList<>()));
+
+        // The subject count is the last field of a student without subjects
+        byte[] negativeSubjects = bytes.clone();
+        ByteBuffer.wrap(negativeSubjects).putInt(negativeSubjects.length - 4, -1);
+        DataWriter.writeBytesToFile(negativeSubjects, TEST_FOLDER, SNAPSHOT_PATH.toString());
+        assertThrows(IOException.class, () -> BinarySnapshot.load(SNAPSHOT_PATH, new ArrayList<>()));
+    }
+}
@@ -1,6 +1,41 @@
 package classify.data;
 //@@author ParthGandhiNUS
 
+//@@author alalal47
+import classify.student.Student;
+import classify.student.StudentList;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+//@@author ParthGandhiNUS
 public class DataHandlerTest {
+    //@@author alalal47
+    private static final Path DATA_FILE = Paths.get("data/studentInfo/Student_Information.txt");
+
+    @Test
+    public void saveChanges_unrecordedChange_wholeListWritten() throws IOException {
+        Student student = new Student("Unrecorded Student");
+        student.getAttributes().setPhoneNumber(91234567);
+        StudentList.masterStudentList.add(student);
+        try {
+            DataHandler.saveChanges();
+            DataHandler.flush();
 
+            assertTrue(Files.readString(DATA_FILE, StandardCharsets.UTF_8).contains("Unrecorded Student"));
+            assertFalse(StudentList.masterStudentList.isDirty());
+        } finally {
+            StudentList.masterStudentList.remove(student);
+            DataHandler.saveChanges();
+            DataHandler.flush();
+        }
+    }
 }
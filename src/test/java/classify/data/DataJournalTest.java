@@ -0,0 +1,106 @@
+package classify.data;
+//@@author alalal47
+
+import classify.student.Student;
+import classify.student.SubjectGrade;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import static classify.student.StudentFixtures.createStudent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DataJournalTest {
+    private static final String TEST_FOLDER = "./data/journalTestFolder";
+    private static final String JOURNAL_PATH = TEST_FOLDER + "/test.journal";
+
+    private DataJournal journal;
+
+    @BeforeEach
+    public void setUp() {
+        DataWriter.createParentFileFolder(TEST_FOLDER);
+        journal = new DataJournal(JOURNAL_PATH);
+        journal.clear();
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        journal.clear();
+        Files.deleteIfExists(Paths.get(TEST_FOLDER));
+    }
+
+    @Test
+    public void replay_addUpdateRemove_listMatchesRecordedChanges() {
+        Student alpha = createStudent("Alpha", 91234567);
+        Student beta = createStudent("Beta", 92345678);
+        journal.recordAdd(alpha);
+        journal.recordAdd(beta);
+
+        alpha.getAttributes().addSubjectGrade(new SubjectGrade("Math", 80.0, 4));
+        alpha.getAttributes().setPhoneNumber(98765432);
+        journal.recordUpdate("Alpha", 91234567, alpha);
+        journal.recordRemove("Beta", 92345678);
+        assertEquals(4, journal.getEntryCount());
+
+        ArrayList<Student> list = new ArrayList<>();
+        assertEquals(4, journal.replay(list));
+
+        assertEquals(1, list.size());
+        assertEquals("Alpha", list.get(0).getName());
+        assertEquals(98765432, list.get(0).getPhoneNumber());
+        assertEquals("Math", list.get(0).getAttributes().getSubjectGrades().get(0).getSubject());
+    }
+
+    @Test
+    public void replay_entriesAlreadyInList_listUnchanged() {
+        Student alpha = createStudent("Alpha", 91234567);
+        journal.recordAdd(alpha);
+
+        ArrayList<Student> list = new ArrayList<>();
+        journal.replay(list);
+        journal.replay(list);
+
+        assertEquals(1, list.size());
+    }
+
+    @Test
+    public void compaction_finished_noPendingEntries() throws IOException {
+        journal.recordAdd(createStudent("Alpha", 91234567));
+        assertTrue(journal.hasPendingEntries());
+
+        journal.beginCompaction();
+        journal.recordAdd(createStudent("Beta", 92345678));
+        journal.finishCompaction();
+
+        ArrayList<Student> list = new ArrayList<>();
+        journal.replay(list);
+        assertEquals(1, list.size());
+        assertEquals("Beta", list.get(0).getName());
+
+        journal.clear();
+        assertFalse(journal.hasPendingEntries());
+    }
+
+    @Test
+    public void replay_entriesAppendedByWriterThread_allEntriesReplayed() {
+        BackgroundWriter writer = new BackgroundWriter("journal-test-writer");
+        DataJournal writerJournal = new DataJournal(JOURNAL_PATH, writer);
+        for (int i = 0; i < 50; i++) {
+            writerJournal.recordAdd(createStudent("Student " + i, 91234500 + i));
+        }
+        writerJournal.recordRemove("Student 0", 91234500);
+        writer.flush();
+
+        ArrayList<Student> list = new ArrayList<>();
+        assertEquals(51, journal.replay(list));
+        assertEquals(49, list.size());
+        assertEquals("Student 1", list.get(0).getName());
+    }
+}
@@ -2,17 +2,25 @@ package classify.data;
 //@@author ParthGandhiNUS
 
 import classify.student.Student;
+import classify.student.StudentList;
 import classify.student.SubjectGrade;
 import classify.user.InvalidCharacterException;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DataReaderTest {
@@ -196,4 +204,51 @@ public class DataReaderTest {
     public void deletionRequestFinalConfirmationInvalidTest3(){
         assertFalse(DataReader.isDeletionRequestFinalConfirmation("BANANA"));
     }
+
+    //@@author alalal47
+    @Test
+    public void parseCleanRecord_validInput_studentParsed() {
+        Student student = DataReader.parseCleanRecord(FULL_VALID_INPUT);
+
+        assertEquals(JOHN_DOE, student.getName());
+        assertEquals((int) PHONE_NUMBER, student.getPhoneNumber());
+        assertEquals(MATH, student.getAttributes().getSubjectGrades().get(0).getSubject());
+    }
+
+    @Test
+    public void parseCleanRecord_invalidPhoneNumber_null() {
+        assertNull(DataReader.parseCleanRecord("John Doe ~~ male ~~ 123 ~~ 2024-04-13 ~~ Na ~~ "));
+        assertNull(DataReader.parseCleanRecord("John Doe ~~ male ~~ 98989898"));
+    }
+
+    @Test
+    public void initialiseData_fileLargerThanOneChunk_studentsLoadedInFileOrder() throws IOException {
+        Path filePath = Paths.get("./data/loaderTest.txt");
+        List<String> lines = new ArrayList<>();
+        int studentCount = 20000;
+        for (int i = 0; i < studentCount; i++) {
+            lines.add("Student " + i + " ~~ F ~~ " + (80000000 + i) + " ~~ 2024-04-13 ~~ Na ~~ Math ## 81.3 ## "
+                    + i + " #--# ");
+        }
+        lines.add("");
+        lines.add("Student 5 ~~ F ~~ 80000005 ~~ 2024-04-13 ~~ Na ~~ ");
+        lines.add("Student Invalid ~~ F ~~ 123 ~~ 2024-04-13 ~~ Na ~~ ");
+        Files.createDirectories(filePath.getParent());
+        Files.write(filePath, lines, StandardCharsets.UTF_8);
+
+        StudentList.masterStudentList.clear();
+        try {
+            DataReader.initialiseData(StudentList.masterStudentList, filePath.toString());
+
+            assertEquals(studentCount, StudentList.masterStudentList.size());
+            for (int i = 0; i < studentCount; i++) {
+                Student student = StudentList.masterStudentList.get(i);
+                assertEquals(80000000 + i, student.getPhoneNumber());
+                assertEquals(i, student.getAttributes().getSubjectGrades().get(0).getClassesAttended());
+            }
+        } finally {
+            StudentList.masterStudentList.clear();
+            Files.delete(filePath);
+        }
+    }
 }
@@ -4,10 +4,15 @@ package classify.data;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class DataWriterTest {
@@ -23,4 +28,22 @@ public class DataWriterTest {
         assertTrue( Files.exists(expectedDirectory));
         currentDir.delete();
     }
+
+    //@@author alalal47
+    /**
+     * Test checks that overwriting a file replaces its contents in full and leaves no temporary file behind
+     */
+    @Test
+    public void writeLinesToFile_existingFile_replacedWithoutTemporaryFile() throws IOException {
+        String filePath = VALID_FILE_DIRECTORY + "/atomicWrite.txt";
+        DataWriter.writeLinesToFile(List.of("Old ~~ M", "Older ~~ F"), VALID_FILE_DIRECTORY, filePath);
+
+        List<String> lines = List.of("Alpha ~~ F ~~ 91234567", "B\u00e9ta ~~ M ~~ 92345678");
+        assertTrue(DataWriter.writeLinesToFile(lines, VALID_FILE_DIRECTORY, filePath));
+
+        assertEquals(lines, Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8));
+        assertFalse(Files.exists(Paths.get(filePath + ".tmp")));
+        Files.delete(Paths.get(filePath));
+        Files.delete(Paths.get(VALID_FILE_DIRECTORY));
+    }
 }
@@ -0,0 +1,58 @@
+package classify.data;
+//@@author alalal47
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldScannerTest {
+
+    @Test
+    public void reset_sameLineAsSplit_sameFields() {
+        String[] lines = {"John ~~ M ~~ 98989898 ~~ ", "a~~b~~~~", "~~a", "", "~~", "a ~~ ~~ b"};
+        FieldScanner scanner = new FieldScanner("~~");
+
+        for (String line : lines) {
+            String[] expected = line.split("~~");
+            scanner.reset(line);
+            assertEquals(expected.length, scanner.getFieldCount(), line);
+            for (int i = 0; i < expected.length; i++) {
+                assertEquals(expected[i].trim(), scanner.getString(i));
+            }
+        }
+    }
+
+    @Test
+    public void getInt_paddedNumber_parsed() {
+        FieldScanner scanner = new FieldScanner("##").reset(" Math ## 81.3 ##  10 ");
+
+        assertEquals("Math", scanner.getString(0));
+        assertEquals(81.3, scanner.getDouble(1));
+        assertEquals(10, scanner.getInt(2));
+        assertThrows(NumberFormatException.class, () -> scanner.getInt(0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> scanner.getString(3));
+    }
+
+    @Test
+    public void getDate_validAndInvalidDates_sameAsConvertStringToLocalDate() {
+        FieldScanner scanner = new FieldScanner("~~").reset("2024-04-13 ~~ 2023-02-30 ~~ 2024-13-01 ~~ 24-1-1");
+
+        assertEquals(LocalDate.of(2024, 4, 13), scanner.getDate(0));
+        assertEquals(DataReader.convertStringToLocalDate("2023-02-30"), scanner.getDate(1));
+        assertThrows(DateTimeParseException.class, () -> scanner.getDate(2));
+        assertThrows(DateTimeParseException.class, () -> scanner.getDate(3));
+    }
+
+    @Test
+    public void resetTrimmed_blankText_singleBlankField() {
+        FieldScanner scanner = new FieldScanner("#--#").resetTrimmed("   ", 0, 3);
+
+        assertEquals(1, scanner.getFieldCount());
+        assertTrue(scanner.isBlank(0));
+    }
+}
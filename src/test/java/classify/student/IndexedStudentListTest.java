@@ -0,0 +1,121 @@
+//@@author alalal47
+package classify.student;
+
+import classify.user.NameNumberMatchException;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static classify.student.StudentFixtures.createStudent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public class IndexedStudentListTest {
+
+    @Test
+    void containsNameNumber_differentCase_found() {
+        IndexedStudentList list = new IndexedStudentList();
+        list.add(createStudent("Alpha Beta", 91234567));
+
+        assertTrue(list.containsNameNumber("alpha BETA", 91234567));
+        assertFalse(list.containsNameNumber("alpha beta", 91234568));
+    }
+
+    @Test
+    void remove_studentRemoved_notFound() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student alpha = createStudent("Alpha", 91234567);
+        list.add(alpha);
+        list.remove(alpha);
+
+        assertFalse(list.containsNameNumber("Alpha", 91234567));
+    }
+
+    @Test
+    void set_studentReplaced_onlyNewStudentFound() {
+        IndexedStudentList list = new IndexedStudentList();
+        list.add(createStudent("Alpha", 91234567));
+        list.set(0, createStudent("Beta", 92345678));
+
+        assertFalse(list.containsNameNumber("Alpha", 91234567));
+        assertTrue(list.containsNameNumber("Beta", 92345678));
+    }
+
+    @Test
+    void studentChanged_phoneNumberChanged_newPairFound() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student alpha = createStudent("Alpha", 91234567);
+        list.add(alpha);
+
+        alpha.getAttributes().setPhoneNumber(98765432);
+
+        assertFalse(list.containsNameNumber("Alpha", 91234567));
+        assertTrue(list.containsNameNumber("Alpha", 98765432));
+    }
+
+    @Test
+    void isDirty_subjectChanged_dirtyUntilCleared() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student alpha = createStudent("Alpha", 91234567);
+        SubjectGrade math = new SubjectGrade("Math", 80.0, 4);
+        alpha.getAttributes().addSubjectGrade(math);
+        list.add(alpha);
+        list.clearDirty();
+        assertFalse(list.isDirty());
+
+        math.setClassesAttended(5);
+        assertTrue(list.isDirty());
+
+        list.clearDirty();
+        list.remove(alpha);
+        list.clearDirty();
+        math.setGrade(90.0);
+        assertFalse(list.isDirty());
+    }
+
+    @Test
+    void checkNameNumberPair_indexedList_throwsException() {
+        IndexedStudentList list = new IndexedStudentList();
+        list.add(createStudent("Alpha", 91234567));
+
+        try {
+            StudentList.checkNameNumberPair(list, "alpha", 91234567);
+            fail();
+        } catch (NameNumberMatchException e) {
+            assertTrue(list.containsNameNumber("Alpha", 91234567));
+        }
+    }
+
+    @Test
+    void getSortedView_relevantChangesOnly_viewRebuiltAndListOrderKept() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student charlie = createStudent("Charlie", 91234567);
+        Student alpha = createStudent("Alpha", 92345678);
+        SubjectGrade math = new SubjectGrade("Math", 80.0, 4);
+        alpha.getAttributes().addSubjectGrade(math);
+        list.add(charlie);
+        list.add(alpha);
+        list.clearDirty();
+
+        List<Student> byName = list.getSortedView(StudentOrder.BY_NAME);
+        assertEquals(List.of(alpha, charlie), byName);
+        assertEquals(List.of(charlie, alpha), list);
+        assertFalse(list.isDirty());
+
+        math.setClassesAttended(9);
+        assertSame(byName, list.getSortedView(StudentOrder.BY_NAME));
+
+        alpha.setName("Delta");
+        List<Student> renamed = list.getSortedView(StudentOrder.BY_NAME);
+        assertNotSame(byName, renamed);
+        assertEquals(List.of(charlie, alpha), renamed);
+
+        list.add(createStudent("Bravo", 93456789));
+        assertEquals("Bravo", list.getSortedView(StudentOrder.BY_NAME).get(0).getName());
+    }
+}
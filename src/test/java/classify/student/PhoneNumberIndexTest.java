@@ -0,0 +1,61 @@
+//@@author alalal47
+package classify.student;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static classify.student.StudentFixtures.createStudent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PhoneNumberIndexTest {
+
+    @Test
+    void find_manyNumbers_everyStudentFound() {
+        IndexedStudentList list = new IndexedStudentList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(createStudent("Student " + i, 90000000 + i * 1000));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(List.of(list.get(i)), list.getPhoneNumberIndex().find(90000000 + i * 1000));
+        }
+        assertTrue(list.getPhoneNumberIndex().find(90000001).isEmpty());
+    }
+
+    @Test
+    void find_sharedNumber_allStudentsWithNumber() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student first = createStudent("Alpha", 91234567);
+        Student second = createStudent("Beta", 91234567);
+        list.add(first);
+        list.add(second);
+
+        assertEquals(List.of(first, second), list.getPhoneNumberIndex().find(91234567));
+        assertEquals(1, list.getPhoneNumberIndex().size());
+    }
+
+    @Test
+    void find_removeAndChangeNumber_indexUpdated() {
+        IndexedStudentList list = new IndexedStudentList();
+        for (int i = 0; i < 200; i++) {
+            list.add(createStudent("Student " + i, 80000000 + i));
+        }
+        Student changed = list.get(100);
+
+        changed.getAttributes().setPhoneNumber(99999999);
+        for (int i = 199; i >= 0; i -= 2) {
+            list.remove(i);
+        }
+
+        assertTrue(list.getPhoneNumberIndex().find(80000100).isEmpty());
+        assertTrue(list.getPhoneNumberIndex().find(80000199).isEmpty());
+        assertEquals(List.of(changed), list.getPhoneNumberIndex().find(99999999));
+        for (int i = 0; i < 200; i += 2) {
+            int expected = i == 100 ? 0 : 1;
+            assertEquals(expected, list.getPhoneNumberIndex().find(80000000 + i).size());
+        }
+        assertEquals(100, list.getPhoneNumberIndex().size());
+    }
+}
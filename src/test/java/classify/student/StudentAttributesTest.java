@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class StudentAttributesTest {
@@ -153,4 +154,31 @@ public class StudentAttributesTest {
         assertTrue(attributes.getSubjectGrades().isEmpty());
     }
 
+    //@@author alalal47
+    /**
+     * Test case to verify subjects are found by name ignoring case, including after a rename,
+     * while keeping the order they were added in.
+     */
+    @Test
+    public void testFindSubject_renamedAndDeleted_orderKept() {
+        Student student = new Student(JOHN_DOE);
+        StudentAttributes attributes = new StudentAttributes(student);
+        SubjectGrade math = new SubjectGrade(MATH, 90.5, 20);
+        SubjectGrade science = new SubjectGrade(SCIENCE, 80.0, 10);
+        SubjectGrade duplicateMath = new SubjectGrade("math", 70.0, 5);
+        attributes.addSubjectGrade(math);
+        attributes.addSubjectGrade(science);
+        attributes.addSubjectGrade(duplicateMath);
+
+        assertEquals(math, attributes.findSubject("MATH"));
+        assertEquals(List.of(math, science, duplicateMath), attributes.getSubjectGrades());
+
+        math.setSubject("Physics");
+        assertEquals(math, attributes.findSubject("physics"));
+        assertEquals(duplicateMath, attributes.findSubject(MATH));
+
+        attributes.deleteSubject("math");
+        assertNull(attributes.findSubject(MATH));
+        assertEquals(List.of(math, science), attributes.getSubjectGrades());
+    }
 }
@@ -0,0 +1,24 @@
+package classify.student;
+//@@author alalal47
+
+/**
+ * Students for tests which only need a name and a phone number.
+ */
+public final class StudentFixtures {
+
+    private StudentFixtures() {
+    }
+
+    /**
+     * Creates a student with the name and phone number given.
+     *
+     * @param name        Name of the student
+     * @param phoneNumber Phone number of the student
+     * @return The new student
+     */
+    public static Student createStudent(String name, int phoneNumber) {
+        Student student = new Student(name);
+        student.getAttributes().setPhoneNumber(phoneNumber);
+        return student;
+    }
+}
@@ -0,0 +1,97 @@
+//@@author alalal47
+package classify.student;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StudentIndexesTest {
+
+    private static Student createStudent(String name, String subject, int classesAttended, LocalDate paymentDate) {
+        Student student = new Student(name);
+        student.getAttributes().addSubjectGrade(new SubjectGrade(subject, 50, classesAttended));
+        student.getAttributes().setLastPaymentDate(paymentDate);
+        return student;
+    }
+
+    @Test
+    void getStudentsWithSubject_differentCase_studentsInListOrder() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student alpha = createStudent("Alpha", "Math", 3, LocalDate.of(2024, 1, 1));
+        Student beta = createStudent("Beta", "English", 2, LocalDate.of(2024, 1, 2));
+        Student gamma = createStudent("Gamma", "math", 1, LocalDate.of(2024, 1, 3));
+        list.add(alpha);
+        list.add(beta);
+        list.add(0, gamma);
+
+        assertEquals(List.of(gamma, alpha), list.getIndexes().getStudentsWithSubject("MATH"));
+        assertTrue(list.getIndexes().getStudentsWithSubject("Science").isEmpty());
+    }
+
+    @Test
+    void studentChanged_subjectAndClassesChanged_indexesUpdated() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student alpha = createStudent("Alpha", "Math", 3, LocalDate.of(2024, 1, 1));
+        Student beta = createStudent("Beta", "Math", 5, LocalDate.of(2024, 1, 2));
+        list.add(alpha);
+        list.add(beta);
+
+        SubjectGrade subjectGrade = alpha.getAttributes().getSubjectGrades().get(0);
+        subjectGrade.setSubject("Physics");
+        subjectGrade.setClassesAttended(10);
+
+        assertEquals(List.of(beta), list.getIndexes().getStudentsWithSubject("Math"));
+        assertEquals(List.of(alpha), list.getIndexes().getStudentsWithSubject("Physics"));
+        assertEquals(List.of(beta, alpha), list.getIndexes().getStudentsByTotalClasses());
+    }
+
+    @Test
+    void getStudentsByLastPaymentDate_sameDate_sameOrderAsStableSort() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student alpha = createStudent("Alpha", "Math", 1, LocalDate.of(2024, 3, 1));
+        Student beta = createStudent("Beta", "Math", 1, LocalDate.of(2024, 1, 1));
+        Student gamma = createStudent("Gamma", "Math", 1, LocalDate.of(2024, 3, 1));
+        list.add(alpha);
+        list.add(beta);
+        list.add(gamma);
+
+        assertEquals(List.of(beta, alpha, gamma), list.getIndexes().getStudentsByLastPaymentDate());
+        assertEquals(List.of(alpha, gamma),
+                list.getIndexes().getStudentsPaidBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 3, 1)));
+
+        list.sort(Comparator.comparing(Student::getLastPaymentDate));
+        assertEquals(List.of(beta, alpha, gamma), list);
+        list.remove(alpha);
+        assertEquals(List.of(beta, gamma), list.getIndexes().getStudentsByLastPaymentDate());
+    }
+
+    @Test
+    void add_manyInsertionsAtFront_listOrderKept() {
+        IndexedStudentList list = new IndexedStudentList();
+        for (int i = 0; i < 100; i++) {
+            list.add(0, createStudent("Student " + i, "Math", 0, LocalDate.of(2024, 1, 1)));
+        }
+
+        assertEquals(list, list.getIndexes().getStudentsWithSubject("Math"));
+        assertEquals(list, list.getIndexes().getStudentsByTotalClasses());
+    }
+
+    @Test
+    void addAll_studentsInsertedInMiddle_listOrderKept() {
+        IndexedStudentList list = new IndexedStudentList();
+        Student alpha = createStudent("Alpha", "Math", 1, LocalDate.of(2024, 1, 1));
+        Student beta = createStudent("Beta", "Math", 1, LocalDate.of(2024, 1, 1));
+        Student gamma = createStudent("Gamma", "Math", 1, LocalDate.of(2024, 1, 1));
+        Student delta = createStudent("Delta", "Math", 1, LocalDate.of(2024, 1, 1));
+        list.addAll(List.of(alpha, delta));
+        list.addAll(1, List.of(beta, gamma));
+
+        assertEquals(List.of(alpha, beta, gamma, delta), list.getIndexes().getStudentsWithSubject("Math"));
+        assertEquals(List.of(alpha, beta, gamma, delta), list.getIndexes().getStudentsByLastPaymentDate());
+    }
+}
@@ -5,6 +5,8 @@ import classify.user.NameNumberMatchException;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -31,6 +33,28 @@ public class StudentListTest {
 
         assertEquals(studentList.studentList.get(0), alpha);
         assertTrue(isRightException);
-    } 
+    }
 
+    //@@author alalal47
+    @Test
+    void findStudentsWithWrongTotals_subjectsChanged_totalsKeptUpToDate() {
+        Student alpha = new Student("alpha");
+        StudentAttributes attributes = alpha.getAttributes();
+        attributes.addSubjectGrade(new SubjectGrade("Math", 90.0, 10));
+        attributes.addSubjectGrade(new SubjectGrade("Science", 80.0, -1));
+        attributes.getSubjectGrades().add(0, new SubjectGrade("History", 70.0, 4));
+        assertEquals(14, alpha.getTotalClassesAttended());
+
+        attributes.findSubject("Science").setClassesAttended(6);
+        attributes.findSubject("Math").setClassesAttended(-1);
+        assertEquals(10, alpha.getTotalClassesAttended());
+
+        attributes.getSubjectGrades().set(0, new SubjectGrade("Art", 60.0, 7));
+        attributes.deleteSubject("Science");
+        assertEquals(7, alpha.getTotalClassesAttended());
+
+        attributes.getSubjectGrades().remove(0);
+        assertEquals(0, alpha.getTotalClassesAttended());
+        assertTrue(StudentList.findStudentsWithWrongTotals(List.of(alpha)).isEmpty());
+    }
 }
@@ -0,0 +1,70 @@
+//@@author alalal47
+package classify.student;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StudentNameIndexTest {
+
+    private static IndexedStudentList createList(String... names) {
+        IndexedStudentList list = new IndexedStudentList();
+        for (String name : names) {
+            list.add(new Student(name));
+        }
+        return list;
+    }
+
+    @Test
+    void findExact_differentCase_allStudentsWithName() {
+        IndexedStudentList list = createList("John Tan", "Jane Lim", "JOHN TAN");
+
+        List<Student> found = list.getNameIndex().findExact("john tan");
+
+        assertEquals(2, found.size());
+        assertTrue(list.getNameIndex().findExact("John").isEmpty());
+    }
+
+    @Test
+    void findByPrefix_limit_firstNamesInOrder() {
+        IndexedStudentList list = createList("Jonah", "Alice", "John Tan", "Joanne", "Jo");
+
+        List<Student> found = list.getNameIndex().findByPrefix("jo", 3);
+
+        assertEquals(3, found.size());
+        assertEquals("Jo", found.get(0).getName());
+        assertEquals("Joanne", found.get(1).getName());
+        assertEquals("John Tan", found.get(2).getName());
+        assertEquals(4, list.getNameIndex().findByPrefix("JO", 10).size());
+    }
+
+    @Test
+    void findSimilar_typos_namesWithinDistance() {
+        IndexedStudentList list = createList("Jonathan", "Johnathan", "Jonathon", "Alice", "Jon");
+
+        List<Student> found = list.getNameIndex().findSimilar("jonathen", 1, 10);
+
+        assertEquals(2, found.size());
+        assertEquals("Jonathan", found.get(0).getName());
+        assertEquals("Jonathon", found.get(1).getName());
+        assertEquals(3, list.getNameIndex().findSimilar("jonathen", 2, 10).size());
+        assertEquals(1, list.getNameIndex().findSimilar("jonathen", 2, 1).size());
+    }
+
+    @Test
+    void nameIndex_renameAndRemove_indexUpdated() {
+        IndexedStudentList list = createList("Alice", "Bob");
+        Student bob = list.get(1);
+
+        bob.setName("Robert");
+        list.remove(0);
+
+        assertTrue(list.getNameIndex().findExact("Bob").isEmpty());
+        assertTrue(list.getNameIndex().findExact("Alice").isEmpty());
+        assertEquals(List.of(bob), list.getNameIndex().findExact("robert"));
+        assertEquals(List.of(bob), StudentNameIndex.of(list).findByPrefix("rob", 5));
+    }
+}
@@ -0,0 +1,27 @@
+package classify.student;
+//@@author alalal47
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StudentOrderTest {
+
+    @Test
+    void sort_manyStudentsWithTies_sameOrderAsStableSort() {
+        List<Student> students = new ArrayList<>();
+        Random random = new Random(0);
+        for (int i = 0; i < 1000; i++) {
+            students.add(new Student("Student " + random.nextInt(50)));
+        }
+        List<Student> expected = new ArrayList<>(students);
+        expected.sort(Comparator.comparing(Student::getName));
+
+        assertEquals(expected, StudentOrder.BY_NAME.sort(students));
+    }
+}
@@ -0,0 +1,31 @@
+package classify.student;
+//@@author alalal47
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class SubjectDictionaryTest {
+
+    @Test
+    public void toId_sameName_sameIdAndSharedName() {
+        int id = SubjectDictionary.toId(new String("Dictionary Math"));
+        assertEquals(id, SubjectDictionary.toId(new String("Dictionary Math")));
+        assertNotEquals(id, SubjectDictionary.toId("dictionary math"));
+        assertEquals(SubjectDictionary.getKey(id), SubjectDictionary.getKey(SubjectDictionary.toId("dictionary math")));
+
+        SubjectGrade first = new SubjectGrade(new String("Dictionary Math"), 90.0, 10);
+        SubjectGrade second = new SubjectGrade(new String("Dictionary Math"), 80.0, 12);
+        assertSame(first.getSubject(), second.getSubject());
+    }
+
+    @Test
+    public void toId_null_noSubject() {
+        assertEquals(SubjectDictionary.NO_SUBJECT, SubjectDictionary.toId(null));
+        assertNull(SubjectDictionary.getName(SubjectDictionary.NO_SUBJECT));
+        assertNull(new SubjectGrade(null, 0, 0).getSubject());
+    }
+}
@@ -0,0 +1,73 @@
+package classify.textfilecode;
+//@@author alalal47
+
+import classify.student.Student;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextFileBatchProcessorTest {
+
+    private static Path createInputFolder() throws IOException {
+        Path folder = Files.createTempDirectory("classify-input");
+        Files.write(folder.resolve("math.txt"), List.of("Subject: Math", "Classes Attended: 12",
+                "Luigi ~~ 98989898 ~~ 90.0", "Daisy ~~ 123 ~~ 95.0", "Mario ~~ 98988888 ~~ 98.0"));
+        Files.write(folder.resolve("science.txt"), List.of("Subject: Science", "Classes Attended: 8",
+                "luigi ~~ 98989898 ~~ 70.0", "Peach ~~ 98888888 ~~ abc", "", "Toad ~~ 97777777 ~~ 60.0"));
+        Files.write(folder.resolve("broken.txt"), List.of("Subject:"));
+        Files.write(folder.resolve("notes.md"), List.of("Not a text file"));
+        return folder;
+    }
+
+    private static void deleteFolder(Path folder) throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Test
+    public void processAll_severalFiles_rowsMergedInFileOrder() throws IOException {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+        Path folder = createInputFolder();
+
+        ArrayList<Student> students = new ArrayList<>();
+        try {
+            TextFileBatchProcessor.processAll(folder.toFile(), students);
+        } finally {
+            System.setOut(originalOut);
+            deleteFolder(folder);
+        }
+
+        assertEquals(3, students.size());
+        assertEquals("Luigi", students.get(0).getName());
+        assertEquals(2, students.get(0).getAttributes().getSubjectGrades().size());
+        assertEquals("Mario", students.get(1).getName());
+        assertEquals("Toad", students.get(2).getName());
+
+        String output = outContent.toString();
+        assertTrue(output.contains("Processing 3 text files from the input folder."));
+        assertTrue(output.contains("broken.txt: Wrong format found in the first two lines. File skipped."));
+        assertTrue(output.contains("math.txt (Math): 2 added, 0 updated, 0 unchanged, 1 rejected"));
+        assertTrue(output.contains("    Line 4: Invalid number found. Skipping entry."));
+        assertTrue(output.contains("science.txt (Science): 1 added, 1 updated, 0 unchanged, 1 rejected"));
+        assertTrue(output.contains("    Line 4: Invalid Number format found."));
+        assertTrue(output.contains("3 added, 1 updated, 0 unchanged, 2 rejected."));
+    }
+}
@@ -0,0 +1,55 @@
+package classify.textfilecode;
+//@@author alalal47
+
+import classify.student.IndexedStudentList;
+import classify.student.Student;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextFileImportPipelineTest {
+
+    private static String createRows(int rowCount) {
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < rowCount; i++) {
+            rows.append("Student ").append((char) ('a' + i % 26)).append(" ~~ ").append(80000000 + i)
+                    .append(" ~~ 50.0").append(System.lineSeparator());
+        }
+        return rows.toString();
+    }
+
+    @Test
+    public void run_manyBatches_everyRowAddedWithProgress() throws IOException {
+        ByteArrayOutputStream outContent = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outContent));
+
+        String rows = createRows(2500) + "Bad ~~ 123 ~~ 50.0" + System.lineSeparator() + System.lineSeparator()
+                + "Student a ~~ 80000000 ~~ 90.0" + System.lineSeparator();
+        ArrayList<Student> students = new IndexedStudentList();
+        long rowCount;
+        try {
+            rowCount = new TextFileImportPipeline(new BufferedReader(new StringReader(rows)), "Math", 4, 1000)
+                    .run(students);
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertEquals(2502, rowCount);
+        assertEquals(2500, students.size());
+        assertEquals("Student A", students.get(0).getName());
+        assertEquals(80002499, students.get(2499).getPhoneNumber());
+        assertEquals(1, students.get(0).getAttributes().getSubjectGrades().size());
+        assertEquals("Processed 1000 rows so far." + System.lineSeparator()
+                + "Processed 2000 rows so far." + System.lineSeparator()
+                + "Invalid number found. Skipping entry." + System.lineSeparator(), outContent.toString());
+    }
+}
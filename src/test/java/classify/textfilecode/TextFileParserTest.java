@@ -2,7 +2,6 @@ package classify.textfilecode;
 //@@author ParthGandhiNUS
 
 import classify.student.Student;
-import classify.student.SubjectGrade;
 
 import org.junit.jupiter.api.Test;
 
@@ -12,15 +11,13 @@ import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TextFileParserTest {
     public static final String JOHN_DOE = "John_Doe";
     public static final Integer NORMAL_SG_NUMBER = 99999999;
-    public static final String MATH = "Math";
-    public static final String SCIENCE = "Science";
-    public static final double MATH_GRADE = 81.3;
-    public static final Integer MATH_CLASSES = 10;
     private static final String INVALID_PHONE_NUMBER_MESSAGE="'s phone number is not a valid Singapore phone number." +
         " Please edit this students' phone number with the edit command!";
     private static final String VALID_TEXT_FILE = "File.txt";
@@ -87,106 +84,18 @@ class TextFileParserTest {
         assertEquals(JOHN_DOE+INVALID_PHONE_NUMBER_MESSAGE, outContent.toString().trim());
     }
 
+    //@@author alalal47
     @Test
-    public void testMatchingStudentIndexAllTrue() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student(JOHN_DOE);
-        masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(NORMAL_SG_NUMBER);
-
-        boolean isTrue = TextFileParser.matchingStudentIndex(masterStudentList,
-                JOHN_DOE, NORMAL_SG_NUMBER) == 0;
-        assertTrue(isTrue);
-    }
-
-    @Test
-    public void testMatchingStudentIndexWrongNumber() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student(JOHN_DOE);
-        masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(NORMAL_SG_NUMBER);
-
-        boolean isFalse = TextFileParser.matchingStudentIndex(masterStudentList,
-                JOHN_DOE, 98989898) == 0;
-        assertFalse(isFalse);
-    }
-
-    @Test
-    public void testMatchingStudentIndexWrongName() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student(JOHN_DOE);
-        masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(NORMAL_SG_NUMBER);
-
-        boolean isFalse = TextFileParser.matchingStudentIndex(masterStudentList,
-                "Jane Doe", NORMAL_SG_NUMBER) == 0;
-        assertFalse(isFalse);
-    }
-
-
-    @Test
-    public void testMatchingSubjectTrueCase() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student(JOHN_DOE);
-        masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(NORMAL_SG_NUMBER);
-        SubjectGrade newSubject = new SubjectGrade(MATH, MATH_GRADE, MATH_CLASSES);
-        student.getAttributes().addSubjectGrade(newSubject);
-        
-
-        assertTrue(TextFileParser.isMatchingSubject(masterStudentList, MATH, 0));
-    }
-
-    @Test
-    public void testMatchingSubjectFalseCase() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
+    public void studentLookup_nameNumberPairs_matchedIgnoringNameCaseOnly() {
         Student student = new Student(JOHN_DOE);
-        masterStudentList.add(student);
         student.getAttributes().setPhoneNumber(NORMAL_SG_NUMBER);
-        SubjectGrade newSubject = new SubjectGrade(MATH, MATH_GRADE, MATH_CLASSES);
-        student.getAttributes().addSubjectGrade(newSubject);
-        
-
-        assertFalse(TextFileParser.isMatchingSubject(masterStudentList, SCIENCE, 0));
-    }
-
-    @Test
-    public void testMatchingNameNumberTrueCase() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student(JOHN_DOE);
-        masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(NORMAL_SG_NUMBER);
-
-        assertTrue(TextFileParser.isMatchingNameNumber(masterStudentList, JOHN_DOE, NORMAL_SG_NUMBER));
-    }
-
-    @Test
-    public void testMatchingNameNumberFalseCase1() {
         ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student("Jane Doe");
         masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(98989898);
-
-        assertFalse(TextFileParser.isMatchingNameNumber(masterStudentList, JOHN_DOE, NORMAL_SG_NUMBER));
-    }
 
-    @Test
-    public void testMatchingNameNumberFalseCase2() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student(JOHN_DOE);
-        masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(98989898);
-
-        assertFalse(TextFileParser.isMatchingNameNumber(masterStudentList, JOHN_DOE, NORMAL_SG_NUMBER));
-    }
-
-    @Test
-    public void testMatchingNameNumberFalseCase3() {
-        ArrayList<Student> masterStudentList = new ArrayList<>();
-        Student student = new Student("Jane Doe");
-        masterStudentList.add(student);
-        student.getAttributes().setPhoneNumber(NORMAL_SG_NUMBER);
+        TextFileParser.StudentLookup lookup = new TextFileParser.StudentLookup(masterStudentList);
 
-        assertFalse(TextFileParser.isMatchingNameNumber(masterStudentList, JOHN_DOE, NORMAL_SG_NUMBER));
+        assertSame(student, lookup.find("john_doe", NORMAL_SG_NUMBER));
+        assertNull(lookup.find(JOHN_DOE, 98989898));
+        assertNull(lookup.find("Jane Doe", NORMAL_SG_NUMBER));
     }
 }
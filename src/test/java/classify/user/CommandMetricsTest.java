@@ -0,0 +1,38 @@
+//@@author alalal47
+package classify.user;
+
+import classify.student.Student;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CommandMetricsTest {
+
+    @Test
+    public void parseUserCommand_commandsRun_timedByName() {
+        CommandMetrics.clear();
+        ArrayList<Student> students = new ArrayList<>();
+        InputSource in = new InputSource("");
+
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        InputParsing.parseUserCommand(new String[]{"help", null}, students, new ArrayList<>(), new ArrayList<>(), in);
+        InputParsing.parseUserCommand(new String[]{"help", null}, students, new ArrayList<>(), new ArrayList<>(), in);
+        InputParsing.parseUserCommand(new String[]{"helpp", null}, students, new ArrayList<>(), new ArrayList<>(), in);
+        InputParsing.parseUserCommand(null, students, new ArrayList<>(), new ArrayList<>(), in);
+        System.setOut(originalOut);
+
+        assertEquals(2, CommandMetrics.getHistogram("help").getCount());
+        assertEquals(2, CommandMetrics.getHistogram(CommandMetrics.INVALID_COMMAND).getCount());
+        String metrics = CommandMetrics.formatMetrics();
+        assertTrue(metrics.contains("command.help.count=2\n"), metrics);
+        assertTrue(metrics.contains("command.(invalid).count=2\n"), metrics);
+        assertTrue(metrics.contains("save.bytes="), metrics);
+    }
+}
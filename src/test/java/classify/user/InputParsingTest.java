@@ -11,7 +11,6 @@ import java.io.InputStream;
 import java.io.PrintStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Scanner;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class InputParsingTest {
@@ -28,7 +27,7 @@ public class InputParsingTest {
         String [] commands = new String[2];
         commands[0] = "bye";
         InputParsing.parseUserCommand(commands, masterStudentList, recentlyDeletedList,
-                archiveList, new Scanner(System.in));
+                archiveList, new InputSource(System.in));
 
         System.setOut(System.out);
 
@@ -51,7 +50,7 @@ public class InputParsingTest {
         commands[0] = "list";
         commands[1] = "random_argument";
         InputParsing.parseUserCommand(commands, masterStudentList, recentlyDeletedList,
-                archiveList, new Scanner(System.in));
+                archiveList, new InputSource(System.in));
 
         System.setOut(System.out);
 
@@ -74,7 +73,7 @@ public class InputParsingTest {
         commands[0] = "delete";
         commands[1] = "NonExistentStudent";
         InputParsing.parseUserCommand(commands, masterStudentList, recentlyDeletedList,
-                archiveList, new Scanner(System.in));
+                archiveList, new InputSource(System.in));
 
         System.setOut(System.out);
 
@@ -95,7 +94,7 @@ public class InputParsingTest {
         ArrayList<Student> archiveList = new ArrayList<>();
         String [] commands = new String[2];
         commands[0] = "yeet";
-        InputParsing.parseUserCommand(commands, students, recentlyDeletedList, archiveList, new Scanner(System.in));
+        InputParsing.parseUserCommand(commands, students, recentlyDeletedList, archiveList, new InputSource(System.in));
         System.setOut(System.out);
         String printedOutput = outputStream.toString().trim();
         String expectedOutput = "No such command, type \"help\" to view all commands" +
@@ -114,7 +113,7 @@ public class InputParsingTest {
         String [] commands = new String[2];
         commands[0] = "edit";
 
-        InputParsing.parseUserCommand(commands, students, recentlyDeletedList, archiveList, new Scanner(System.in));
+        InputParsing.parseUserCommand(commands, students, recentlyDeletedList, archiveList, new InputSource(System.in));
 
         System.setOut(System.out);
         String printedOutput = outputStream.toString();
@@ -136,7 +135,7 @@ public class InputParsingTest {
         String [] commands = new String[2];
         commands[0] = "help";
         InputParsing.parseUserCommand(commands, masterStudentList, recentlyDeletedList,
-                archiveList, new Scanner(System.in));
+                archiveList, new InputSource(System.in));
 
         System.setOut(System.out);
 
@@ -154,7 +153,9 @@ public class InputParsingTest {
                                 "view" + "\n" +
                                 "    " + "Views a students details, expects a name," + "\n" +
                                 "    " + "can be used directly with a name" + "\n" +
-                                "    " + "e.g. view [name]" + System.lineSeparator() +
+                                "    " + "e.g. view [name]" + "\n" +
+                                "    " + "or the start of a name, e.g. view [start of name]*," + "\n" +
+                                "    " + "or a phone number, e.g. view #98765432" + System.lineSeparator() +
                                 System.lineSeparator() +
                                 "delete" + "\n" +
                                 "    " + "Deletes a student from the student list," + "\n" +
@@ -180,6 +181,10 @@ public class InputParsingTest {
                                 "    " + "The archived list" + "\n" +
                                 "    " + "The recently deleted list" + "\n" +
                                 "    " + "By certain subject only" + System.lineSeparator() +
+                                "    " + "Use 'list --page N --size M' to show one page of students," + "\n" +
+                                "    " + "or 'list --top K --by classes/payment' to show the students" + "\n" +
+                                "    " + "with the fewest classes or the least recent payment" +
+                                System.lineSeparator() +
                                 System.lineSeparator() +
                                 "bye" + "\n" +
                                 "    " + "Exits Classify" + System.lineSeparator() +
@@ -210,7 +215,18 @@ public class InputParsingTest {
                                 "    " + "Processes a text file containing" + "\n" +
                                 "    " + "a list of students" + "\n" +
                                 "    " + "taking the same subject and the" + "\n" +
-                                "    " + "same number of classes." + System.lineSeparator() +
+                                "    " + "same number of classes." + "\n" +
+                                "    " + "Use 'process all' to process every" + "\n" +
+                                "    " + "text file in the input folder." + System.lineSeparator() +
+                                System.lineSeparator() +
+                                "convert" + "\n" +
+                                "    " + "Saves the data files in the binary" + "\n" +
+                                "    " + "or the text format, expects a format," + "\n" +
+                                "    " + "e.g. convert binary or convert text" + System.lineSeparator() +
+                                System.lineSeparator() +
+                                "stats" + "\n" +
+                                "    " + "Shows how long each command has taken," + "\n" +
+                                "    " + "and the time spent loading and saving data" + System.lineSeparator() +
                                 System.lineSeparator() +
                                 "help" + "\n" +
                                 "    " + "Prints this help message" + System.lineSeparator() +
@@ -232,7 +248,7 @@ public class InputParsingTest {
 
         try {
             System.setIn(new ByteArrayInputStream(userInputDate.getBytes()));
-            Scanner scanner = new Scanner(System.in);
+            InputSource scanner = new InputSource(System.in);
 
             LocalDate parsedDate = InputParsing.readInDate(scanner);
             assertEquals(LocalDate.parse(userInputDate), parsedDate);
@@ -244,7 +260,7 @@ public class InputParsingTest {
 
         try {
             System.setIn(new ByteArrayInputStream(userInputDate.getBytes()));
-            Scanner scanner = new Scanner(System.in);
+            InputSource scanner = new InputSource(System.in);
 
             LocalDate parsedDate = InputParsing.readInDate(scanner);
             assertEquals(LocalDate.now(), parsedDate);
@@ -271,7 +287,7 @@ public class InputParsingTest {
         String userInputNumber = "88888888";
 
         System.setIn(new ByteArrayInputStream((userInputNumber).getBytes()));
-        Scanner scanner = new Scanner(System.in);
+        InputSource scanner = new InputSource(System.in);
 
         StudentList studentList = new StudentList();
         Student alpha1 = new Student("Alpha");
@@ -286,4 +302,44 @@ public class InputParsingTest {
         assertEquals(alpha2, target);
     }
 
+    //@@author alalal47
+    @Test
+    public void findStudentByNamePrefixTest() {
+        StudentList studentList = new StudentList();
+        Student jonathan = new Student("Jonathan Lee");
+        studentList.addStudent(jonathan);
+        studentList.addStudent(new Student("Alice Tan"));
+
+        Student target = InputParsing.findStudentByName(studentList.studentList, "jon*", new InputSource(""));
+        assertEquals(jonathan, target);
+    }
+
+    @Test
+    public void findStudentByNameTypoTest() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(outputStream));
+
+        StudentList studentList = new StudentList();
+        studentList.addStudent(new Student("Jonathan Lee"));
+        Student target = InputParsing.findStudentByName(studentList.studentList, "Jonathen Lee", new InputSource(""));
+
+        System.setOut(originalOut);
+        assertEquals(null, target);
+        assertEquals("Did you mean: Jonathan Lee?", outputStream.toString().trim());
+    }
+
+    @Test
+    public void findStudentByPhoneNumberTest() {
+        StudentList studentList = new StudentList();
+        Student alpha = new Student("Alpha");
+        alpha.getAttributes().setPhoneNumber(98765432);
+        studentList.addStudent(alpha);
+        studentList.addStudent(new Student("Beta"));
+
+        assertEquals(alpha, InputParsing.findStudentByName(studentList.studentList, "#98765432", new InputSource("")));
+        assertEquals(null, InputParsing.findStudentByName(studentList.studentList, "#91111111", new InputSource("")));
+        assertEquals("view", UserInput.processInput("view #98765432")[0]);
+    }
+
 }
@@ -0,0 +1,39 @@
+//@@author alalal47
+package classify.user;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InputSourceTest {
+
+    @Test
+    public void nextLine_mixedLineBreaks_linesWithoutBreaks() {
+        InputSource in = new InputSource("add Alpha\r\n\nbye");
+
+        assertTrue(in.hasNextLine());
+        assertTrue(in.hasNextLine());
+        assertEquals("add Alpha", in.nextLine());
+        assertEquals("", in.nextLine());
+        assertEquals("bye", in.nextLine());
+        assertFalse(in.hasNextLine());
+        assertThrows(NoSuchElementException.class, in::nextLine);
+    }
+
+    @Test
+    public void nextLine_sharedStream_noLinesLost() {
+        byte[] input = "view Alpha\n98765432\nbye\n".getBytes(Charset.defaultCharset());
+        InputSource in = new InputSource(new ByteArrayInputStream(input));
+
+        assertEquals("view Alpha", in.nextLine());
+        assertEquals("98765432", InputParsing.readInString(in));
+        assertEquals("bye", in.nextLine());
+    }
+}
@@ -0,0 +1,49 @@
+//@@author alalal47
+package classify.user;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentile_smallDurations_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int duration = 1; duration <= 10; duration++) {
+            histogram.record(duration);
+        }
+
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(10, histogram.getPercentile(99));
+        assertEquals(10, histogram.getMax());
+        assertEquals(5.5, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_wideRange_withinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long duration = 1_000; duration <= 100_000_000; duration += 1_000) {
+            histogram.record(duration);
+        }
+
+        long median = histogram.getPercentile(50);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(Math.abs(median - 50_000_000) <= 50_000_000 * 0.032, "median was " + median);
+        assertTrue(Math.abs(p99 - 99_000_000) <= 99_000_000 * 0.032, "p99 was " + p99);
+        assertEquals(100_000_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void record_outOfRange_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100));
+        assertEquals(0, new LatencyHistogram().getPercentile(50));
+    }
+}
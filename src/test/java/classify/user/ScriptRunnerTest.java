@@ -0,0 +1,84 @@
+//@@author alalal47
+package classify.user;
+
+import classify.data.DataHandler;
+import classify.student.Student;
+import classify.student.StudentList;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import static classify.student.StudentFixtures.createStudent;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScriptRunnerTest {
+
+    @Test
+    public void runCommands_scriptWithBye_runsCommandsUpToBye() {
+        ArrayList<Student> masterStudentList = new ArrayList<>();
+        ArrayList<Student> recentlyDeletedList = new ArrayList<>();
+        Student alpha = new Student("Alpha");
+        alpha.getAttributes().setPhoneNumber(91234567);
+        masterStudentList.add(alpha);
+        masterStudentList.add(new Student("Beta"));
+        InputSource script = new InputSource("delete #91234567\n\nview Beta\nbye\ndelete Beta\n");
+
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        LatencyHistogram latencies = ScriptRunner.runCommands(script, masterStudentList, recentlyDeletedList,
+                new ArrayList<>());
+        System.setOut(originalOut);
+
+        assertEquals(3, latencies.getCount());
+        assertEquals(1, masterStudentList.size());
+        assertEquals(alpha, recentlyDeletedList.get(0));
+        assertTrue(script.hasNextLine());
+    }
+
+    @Test
+    public void runCommands_scriptEndsInEdit_editSaved() throws IOException {
+        Student alice = createStudent("Alice", 81234567);
+        StudentList.masterStudentList.add(alice);
+        InputSource script = new InputSource("edit Alice\n4\n91234567");
+
+        PrintStream originalOut = System.out;
+        System.setOut(new PrintStream(new ByteArrayOutputStream()));
+        try {
+            DataHandler.deferSaves();
+            ScriptRunner.runCommands(script, StudentList.masterStudentList, StudentList.recentlyDeletedList,
+                    StudentList.archiveList);
+            DataHandler.close();
+
+            String saved = Files.readString(Paths.get("data/studentInfo/Student_Information.txt"),
+                    StandardCharsets.UTF_8);
+            assertEquals(91234567, alice.getPhoneNumber());
+            assertTrue(saved.contains("91234567"));
+        } finally {
+            StudentList.masterStudentList.remove(alice);
+            DataHandler.close();
+            System.setOut(originalOut);
+        }
+    }
+
+    @Test
+    public void formatSummary_commandsRun_throughputAndPercentiles() {
+        LatencyHistogram latencies = new LatencyHistogram();
+        latencies.record(2_000);
+        latencies.record(1_000);
+        latencies.record(3_000);
+        latencies.record(4_000);
+
+        String summary = ScriptRunner.formatSummary(latencies, 2_000_000, 500_000);
+
+        assertEquals("Ran 4 commands in 2.0 ms (2000 commands/s), saved in 0.5 ms" + System.lineSeparator()
+                + "Time per command: p50 2.0 us, p90 4.0 us, p99 4.0 us, max 4.0 us", summary);
+    }
+}